@@ -0,0 +1,52 @@
+package logging.benchmarks;
+
+import logging.LogBatch;
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per log of ROWS logs written one by one and written as one batch (see Logger.batch)
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class BatchBenchmark {
+
+	private static final int ROWS = 100;
+
+	@Param( { "CONSOLE", "FILE" } )
+	public Sinks sinks;
+
+	@Setup
+	public void setup() {
+		sinks.apply();
+	}
+
+	@TearDown
+	public void tearDown() {
+		Logger.flush();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation( ROWS )
+	public void single() {
+		for( int i = 0; i < ROWS; i++ )
+			Logger.info( "batch benchmark {0}", i );
+	}
+
+	@Benchmark
+	@OperationsPerInvocation( ROWS )
+	public void batch() {
+		try( LogBatch batch = Logger.batch( Logger.LogType.INFO ) ) {
+			for( int i = 0; i < ROWS; i++ )
+				batch.add( "batch benchmark {0}", i );
+		}
+	}
+}
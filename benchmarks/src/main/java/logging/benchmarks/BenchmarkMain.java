@@ -0,0 +1,28 @@
+package logging.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of benchmarks.jar
+ * Accepts the usual JMH command line options and always adds the GC profiler,
+ * so every benchmark reports its throughput and its allocation rate (gc.alloc.rate.norm)
+ *
+ * @author cstockhoff
+ */
+public class BenchmarkMain {
+
+	public static void main( String[] args ) throws CommandLineOptionException, RunnerException {
+		CommandLineOptions commandLine = new CommandLineOptions( args );
+		Options options = new OptionsBuilder()
+				.parent( commandLine )
+				.addProfiler( GCProfiler.class )
+				.build();
+		new Runner( options ).run();
+	}
+}
@@ -0,0 +1,58 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Logger with 1 to N threads logging at once
+ * Further thread counts can be measured with the JMH option -t
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class ContentionBenchmark {
+
+	@Param( { "NONE", "FILE" } )
+	public Sinks sinks;
+
+	@Setup
+	public void setup() {
+		sinks.apply();
+	}
+
+	@TearDown
+	public void tearDown() {
+		Logger.flush();
+	}
+
+	@Benchmark
+	@Threads( 1 )
+	public void threads1() {
+		Logger.info( "contention benchmark" );
+	}
+
+	@Benchmark
+	@Threads( 2 )
+	public void threads2() {
+		Logger.info( "contention benchmark" );
+	}
+
+	@Benchmark
+	@Threads( 4 )
+	public void threads4() {
+		Logger.info( "contention benchmark" );
+	}
+
+	@Benchmark
+	@Threads( 8 )
+	public void threads8() {
+		Logger.info( "contention benchmark" );
+	}
+}
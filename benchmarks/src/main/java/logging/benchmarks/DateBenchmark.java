@@ -0,0 +1,34 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a formatted log with and without LOG_DATE (no output)
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class DateBenchmark {
+
+	@Param( { "false", "true" } )
+	public boolean logDate;
+
+	@Setup
+	public void setup() {
+		Sinks.NONE.apply();
+		Logger.LOG_DATE = logDate;
+	}
+
+	@Benchmark
+	public void info() {
+		Logger.info( "date benchmark" );
+	}
+}
@@ -0,0 +1,48 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a log, whose LogType is disabled
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class DisabledLevelBenchmark {
+
+	private Object arg = 42;
+
+	@Setup
+	public void setup() {
+		Sinks.NONE.apply();
+		Logger.disable( Logger.LogType.DEBUG );
+	}
+
+	@Benchmark
+	public void debugObject() {
+		Logger.debug( "disabled" );
+	}
+
+	@Benchmark
+	public void debugPattern() {
+		Logger.debug( "disabled {0}", arg );
+	}
+
+	@Benchmark
+	public void debugSupplier() {
+		Logger.debug( () -> "disabled " + arg );
+	}
+
+	@Benchmark
+	public boolean isDebugEnabled() {
+		return Logger.isDebugEnabled();
+	}
+}
@@ -0,0 +1,49 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of error(Exception) depending on the errorLogLevel (no output)
+ * The Exception is thrown in a depth of 64 frames
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class ErrorBenchmark {
+
+	@Param( { "1", "5", "20", "100" } )
+	public int errorLogLevel;
+
+	private Exception exception;
+
+	@Setup
+	public void setup() {
+		Sinks.NONE.apply();
+		Logger.errorLogLevel = errorLogLevel;
+		exception = deep( 64 );
+	}
+
+	@Benchmark
+	public void error() {
+		Logger.error( exception );
+	}
+
+	@Benchmark
+	public void errorWithMessage() {
+		Logger.error( exception, "error benchmark" );
+	}
+
+	private static Exception deep( int depth ) {
+		if( depth == 0 )
+			return new IllegalStateException( "error benchmark" );
+		return deep( depth - 1 );
+	}
+}
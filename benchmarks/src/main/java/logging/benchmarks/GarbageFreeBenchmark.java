@@ -0,0 +1,68 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import logging.NamedLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the garbage-free log methods:
+ * CharSequence content and patterns with a primitive argument
+ * <p>
+ * The static Logger is measured with the Location-Level NONE, the NamedLogger with CLASSNAME,
+ * so no stack has to be analyzed. gc.alloc.rate.norm has to be 0 B/op, except for doubleArg,
+ * which allocates on some JDKs (the allocations are asserted by GarbageFreeTest)
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Thread )
+public class GarbageFreeBenchmark {
+
+	@Param( { "NONE", "CONSOLE", "FILE" } )
+	public Sinks sinks;
+
+	private final NamedLogger named = Logger.get( GarbageFreeBenchmark.class );
+	private final StringBuilder text = new StringBuilder( 64 );
+	private long counter;
+
+	@Setup
+	public void setup() {
+		sinks.apply();
+		Logger.locationLevel = Logger.LocationLevel.NONE;
+	}
+
+	@TearDown
+	public void tearDown() {
+		Logger.flush();
+	}
+
+	@Benchmark
+	public void charSequence() {
+		text.setLength( 0 );
+		text.append( "garbage-free benchmark " ).append( counter++ );
+		Logger.info( text );
+	}
+
+	@Benchmark
+	public void longArg() {
+		Logger.info( "garbage-free benchmark {0}", counter++ );
+	}
+
+	@Benchmark
+	public void doubleArg() {
+		Logger.info( "garbage-free benchmark {0}", counter++ * 0.5 );
+	}
+
+	@Benchmark
+	public void namedLongArg() {
+		Logger.locationLevel = Logger.LocationLevel.CLASSNAME;
+		named.info( "garbage-free benchmark {0}", counter++ );
+		Logger.locationLevel = Logger.LocationLevel.NONE;
+	}
+}
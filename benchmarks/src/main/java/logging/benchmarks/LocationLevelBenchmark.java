@@ -0,0 +1,43 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import logging.NamedLogger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a formatted log for every Location-Level (no output)
+ * of the static Logger and of a NamedLogger
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class LocationLevelBenchmark {
+
+	private static final NamedLogger log = Logger.get( LocationLevelBenchmark.class );
+
+	@Param
+	public Logger.LocationLevel locationLevel;
+
+	@Setup
+	public void setup() {
+		Sinks.NONE.apply();
+		Logger.locationLevel = locationLevel;
+	}
+
+	@Benchmark
+	public void info() {
+		Logger.info( "location benchmark" );
+	}
+
+	@Benchmark
+	public void named() {
+		log.info( "location benchmark" );
+	}
+}
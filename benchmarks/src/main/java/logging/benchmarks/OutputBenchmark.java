@@ -0,0 +1,38 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a log depending on the output (see Sinks)
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class OutputBenchmark {
+
+	@Param
+	public Sinks sinks;
+
+	@Setup
+	public void setup() {
+		sinks.apply();
+	}
+
+	@TearDown
+	public void tearDown() {
+		Logger.flush();
+	}
+
+	@Benchmark
+	public void info() {
+		Logger.info( "output benchmark" );
+	}
+}
@@ -0,0 +1,39 @@
+package logging.benchmarks;
+
+import logging.Logger;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Output configurations of the benchmarks
+ * <p>
+ * NONE: Logs are formatted, but not written
+ * CONSOLE: Logs are written to Logger.out/Logger.err, which are redirected to a null stream
+ * FILE: Logs are written to the Log-File
+ *
+ * @author cstockhoff
+ */
+public enum Sinks {
+	NONE,
+	CONSOLE,
+	FILE;
+
+	/**
+	 * Configures the Logger for this output
+	 */
+	public void apply() {
+		PrintStream nullStream = new PrintStream( OutputStream.nullOutputStream() );
+		System.setOut( nullStream );
+		System.setErr( nullStream );
+		Logger.out = nullStream;
+		Logger.err = nullStream;
+
+		Logger.LOG_TO_PRINTSTREAM = this == CONSOLE;
+		Logger.LOG_TO_FILE = this == FILE;
+		Logger.LOG_DATE = false;
+		Logger.locationLevel = Logger.LocationLevel.CLASSNAME_LINENUMBER;
+		for( Logger.LogType logType : Logger.LogType.values() )
+			Logger.enable( logType );
+	}
+}
@@ -0,0 +1,55 @@
+package logging.benchmarks;
+
+import logging.Logger;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the Logger with many short tasks, each on its own virtual thread
+ * <p>
+ * Only built on JDK 21 or newer (profile jdk21), pinning of virtual threads is checked by
+ * VirtualThreadPinningTest
+ *
+ * @author cstockhoff
+ */
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@State( Scope.Benchmark )
+public class VirtualThreadBenchmark {
+
+	private static final int TASKS = 1000;
+
+	@Param( { "CONSOLE", "FILE" } )
+	public Sinks sinks;
+
+	private ExecutorService executor;
+
+	@Setup
+	public void setup() {
+		sinks.apply();
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	@TearDown
+	public void tearDown() {
+		Logger.flush();
+		executor.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation( TASKS )
+	public void tasks() throws Exception {
+		Future<?>[] futures = new Future<?>[ TASKS ];
+		for( int i = 0; i < TASKS; i++ )
+			futures[ i ] = executor.submit( () -> Logger.info( "virtual thread benchmark" ) );
+		for( Future<?> future : futures )
+			future.get();
+	}
+}
@@ -0,0 +1,51 @@
+package logging;
+
+import java.io.Closeable;
+import java.io.Flushable;
+
+/**
+ * Output of the Logger (see Logger.addAppender)
+ * <p>
+ * Every log is formatted and encoded once, the same LogLine is handed to all appenders
+ * An appender buffers and flushes on its own, but must write everything on flush and close
+ * <p>
+ * append can be called concurrently by different threads, an appender has to serialize
+ * the hand-off of whole lines itself
+ *
+ * @author cstockhoff
+ */
+public interface Appender extends Flushable, Closeable {
+
+	/**
+	 * Append a formatted log
+	 * The LogLine is reused after this call, its content must be copied, if it is kept
+	 *
+	 * @param line formatted and encoded log
+	 */
+	void append( LogLine line );
+
+	/**
+	 * Append all logs of a batch (see Logger.batch)
+	 * The default appends every log on its own, appenders, which can write the formatted logs
+	 * in one piece (see LogBatch.getBytes), should override it
+	 *
+	 * @param batch formatted and encoded logs
+	 */
+	default void append( LogBatch batch ) {
+		batch.forEachLine( this::append );
+	}
+
+	/**
+	 * Writes all buffered logs
+	 */
+	@Override
+	default void flush() {
+	}
+
+	/**
+	 * Writes all buffered logs and releases the resources of the appender
+	 */
+	@Override
+	default void close() {
+	}
+}
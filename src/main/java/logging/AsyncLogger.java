@@ -0,0 +1,390 @@
+package logging;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Asynchronous Log-Mode (see Logger.LOG_ASYNC)
+ * Callers publish their events into a bounded, preallocated Ring-Buffer and
+ * a dedicated Consumer-Thread formats and writes them to the PrintStream and/or the Log-File
+ * <p>
+ * The Ring-Buffer is a multi-producer/single-consumer queue: Every slot carries a
+ * sequence number, which tells producers and consumer if the slot is free or published
+ * <p>
+ * Contents, which are not Strings (e.g. Logger.info( CharSequence )), are copied into
+ * a reusable StringBuilder of the slot, so publishing them allocates nothing
+ *
+ * @author cstockhoff
+ */
+public class AsyncLogger {
+
+	/**
+	 * Behaviour of a publishing caller, if the Ring-Buffer is full
+	 * <p>
+	 * WAIT: Spin, then yield, then park briefly until the Consumer has freed a slot (lowest latency)
+	 * BLOCK: Park until the Consumer signals a freed slot, an interrupted caller writes its event itself
+	 * DROP: Discard the event and count it (see getDroppedEvents)
+	 */
+	public enum FullPolicy {
+		WAIT,
+		BLOCK,
+		DROP
+	}
+
+	/**
+	 * Preallocated slot of the Ring-Buffer
+	 */
+	private static final class Event {
+		private Logger.LogType type;
+		private String location;
+		private String content;
+
+		/**
+		 * Copy of a content, which is not a String
+		 */
+		private StringBuilder text = new StringBuilder( 128 );
+		private long time;
+	}
+
+	/**
+	 * Time the Consumer parks, if the Ring-Buffer is empty
+	 */
+	private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos( 500 );
+
+	/**
+	 * Tries of a waiting producer (FullPolicy.WAIT), before it yields and before it parks
+	 */
+	private static final int SPIN_TRIES = 100;
+	private static final int YIELD_TRIES = 200;
+
+	private static Event[] ring;
+
+	/**
+	 * Sequence of every slot
+	 * seq == pos: slot is free for the producer claiming pos
+	 * seq == pos + 1: slot is published and can be consumed
+	 */
+	private static AtomicLongArray sequences;
+
+	private static int mask;
+
+	private static FullPolicy policy = FullPolicy.WAIT;
+
+	/**
+	 * Next position to be claimed by a producer
+	 */
+	private static final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Next position to be consumed (only written by the Consumer-Thread)
+	 */
+	private static volatile long head;
+
+	private static final AtomicLong dropped = new AtomicLong();
+
+	private static final ReentrantLock lock = new ReentrantLock();
+	private static final Condition notFull = lock.newCondition();
+	private static volatile int blockedProducers;
+
+	/**
+	 * Guards start and shutdown, a lock instead of a monitor, so a virtual thread, which
+	 * waits for the Consumer-Thread, does not pin its carrier
+	 */
+	private static final ReentrantLock lifecycle = new ReentrantLock();
+
+	private static volatile boolean running;
+	private static volatile Thread consumer;
+
+	/**
+	 * Starts the Consumer-Thread with a Ring-Buffer of the given size
+	 * The size is rounded up to the next power of two
+	 *
+	 * @param bufferSize count of preallocated slots
+	 * @param fullPolicy behaviour, if the Ring-Buffer is full
+	 */
+	static void start( int bufferSize, FullPolicy fullPolicy ) {
+		lifecycle.lock();
+		try {
+			if( running )
+				return;
+
+			int capacity = Integer.highestOneBit( Math.max( 2, bufferSize - 1 ) ) << 1;
+			ring = new Event[ capacity ];
+			sequences = new AtomicLongArray( capacity );
+			long start = tail.get();
+			for( int i = 0; i < capacity; i++ ) {
+				ring[ i ] = new Event();
+				sequences.set( (int) ( ( start + i ) & ( capacity - 1 ) ), start + i );
+			}
+			mask = capacity - 1;
+			head = start;
+			policy = fullPolicy;
+			running = true;
+
+			Thread thread = new Thread( AsyncLogger::consume, "Logger-Async" );
+			thread.setDaemon( true );
+			consumer = thread;
+			thread.start();
+		} finally {
+			lifecycle.unlock();
+		}
+	}
+
+	/**
+	 * Publish an event into the Ring-Buffer
+	 *
+	 * @param type     Log-Level of the event
+	 * @param location location of the caller
+	 * @param content  individual content
+	 * @param time     creation time of the event (ms)
+	 * @return true, if the event was published or dropped, false if the caller has to write it itself
+	 */
+	static boolean publish( Logger.LogType type, String location, CharSequence content, long time ) {
+		if( Thread.currentThread() == consumer )
+			return false;
+		if( !running ) {
+			drainLeftovers();
+			return false;
+		}
+
+		long pos;
+		int index;
+		int tries = 0;
+		while( true ) {
+			pos = tail.get();
+			index = (int) ( pos & mask );
+			long seq = sequences.get( index );
+			if( seq == pos ) {
+				if( tail.compareAndSet( pos, pos + 1 ) )
+					break;
+			} else if( seq < pos ) {
+				// ring is full
+				if( policy == FullPolicy.DROP ) {
+					dropped.incrementAndGet();
+					return true;
+				}
+				if( !running ) {
+					drainLeftovers();
+					return false;
+				}
+				if( policy == FullPolicy.BLOCK ) {
+					if( !awaitNotFull() )
+						return false;
+				} else {
+					backOff( ++tries );
+				}
+			}
+		}
+
+		Event event = ring[ index ];
+		event.type = type;
+		event.location = location;
+		if( content == null || content instanceof String ) {
+			event.content = String.valueOf( content );
+		} else {
+			event.content = null;
+			event.text.append( content );
+		}
+		event.time = time;
+		sequences.set( index, pos + 1 );
+
+		// published after the shutdown has written the remaining events
+		if( !running && consumer == null )
+			drainStopped();
+		return true;
+	}
+
+	/**
+	 * Waiting of a producer, while the Ring-Buffer is full (FullPolicy.WAIT)
+	 *
+	 * @param tries count of tries so far
+	 */
+	private static void backOff( int tries ) {
+		if( tries < SPIN_TRIES )
+			Thread.onSpinWait();
+		else if( tries < YIELD_TRIES )
+			Thread.yield();
+		else
+			LockSupport.parkNanos( IDLE_NANOS / 10 );
+	}
+
+	/**
+	 * Blocks until all events published before this call are written
+	 */
+	public static void flush() {
+		Thread thread = consumer;
+		if( thread == null || Thread.currentThread() == thread )
+			return;
+
+		long target = tail.get();
+		while( head < target && thread.isAlive() ) {
+			LockSupport.unpark( thread );
+			LockSupport.parkNanos( IDLE_NANOS );
+		}
+	}
+
+	/**
+	 * Stops the Consumer-Thread after all published events are written
+	 * Events logged afterwards are written synchronously by the caller
+	 */
+	public static void shutdown() {
+		lifecycle.lock();
+		try {
+			Thread thread = consumer;
+			if( !running || thread == null ) {
+				if( ring != null )
+					drain();
+				return;
+			}
+
+			running = false;
+			LockSupport.unpark( thread );
+			try {
+				thread.join();
+			} catch( InterruptedException e ) {
+				Thread.currentThread().interrupt();
+			}
+			consumer = null;
+			// events published during the stop, including slots claimed but not yet published
+			while( head != tail.get() ) {
+				if( !drain() )
+					Thread.onSpinWait();
+			}
+		} finally {
+			lifecycle.unlock();
+		}
+	}
+
+	/**
+	 * Writes the events, which were published after the Consumer-Thread was stopped (see shutdown)
+	 */
+	private static void drainStopped() {
+		lifecycle.lock();
+		try {
+			if( consumer == null )
+				drain();
+		} finally {
+			lifecycle.unlock();
+		}
+	}
+
+	/**
+	 * Writes the events, which were left by a dead Consumer-Thread, so a caller,
+	 * which writes its event itself, does not write it before older events
+	 */
+	private static void drainLeftovers() {
+		if( consumer == null && ring != null && head != tail.get() )
+			drainStopped();
+	}
+
+	/**
+	 * @return true, if the calling thread is the Consumer-Thread
+	 */
+	static boolean isConsumer() {
+		return Thread.currentThread() == consumer;
+	}
+
+	/**
+	 * @return true, if the asynchronous Log-Mode is active
+	 */
+	public static boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * @return count of events, which were discarded, because the Ring-Buffer was full (FullPolicy.DROP)
+	 */
+	public static long getDroppedEvents() {
+		return dropped.get();
+	}
+
+	/**
+	 * Main loop of the Consumer-Thread
+	 */
+	private static void consume() {
+		try {
+			while( running || head != tail.get() ) {
+				if( !drain() )
+					LockSupport.parkNanos( IDLE_NANOS );
+			}
+		} finally {
+			// callers write synchronously, if the Consumer-Thread dies, the remaining events are written
+			// by the next publishing caller before its own event or by shutdown (see drainLeftovers)
+			running = false;
+			consumer = null;
+		}
+	}
+
+	/**
+	 * Writes all published events in order
+	 *
+	 * @return true, if at least one event was written
+	 */
+	private static boolean drain() {
+		boolean written = false;
+		long pos = head;
+		while( true ) {
+			int index = (int) ( pos & mask );
+			if( sequences.get( index ) != pos + 1 )
+				break;
+
+			// the slot is freed after the write, because the write may read the text of the slot
+			Event event = ring[ index ];
+			try {
+				Logger.write( event.type, event.location, event.content != null ? event.content : event.text, event.time );
+			} catch( Throwable e ) {
+				// a failing appender must not stop the Consumer-Thread
+				e.printStackTrace();
+			} finally {
+				event.location = null;
+				event.content = null;
+				event.text.setLength( 0 );
+				if( event.text.capacity() > LogLine.MAX_REUSED_CAPACITY )
+					event.text = new StringBuilder( 128 );
+				sequences.set( index, pos + mask + 1 );
+			}
+			head = ++pos;
+			written = true;
+		}
+		if( written )
+			Logger.endOfBatch();
+
+		if( written && blockedProducers > 0 ) {
+			lock.lock();
+			try {
+				notFull.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+		return written;
+	}
+
+	/**
+	 * Parks the calling producer until the Consumer has freed slots (FullPolicy.BLOCK)
+	 *
+	 * @return false, if the producer is interrupted and has to write its event itself
+	 */
+	private static boolean awaitNotFull() {
+		// awaitNanos would throw at once for every try
+		if( Thread.currentThread().isInterrupted() )
+			return false;
+
+		lock.lock();
+		try {
+			blockedProducers++;
+			notFull.awaitNanos( IDLE_NANOS );
+			return true;
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+			return false;
+		} finally {
+			blockedProducers--;
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package logging;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses rolled Log-Files on a background thread (see FileBundle.roll)
+ * The rolls are processed in order: The backups are shifted one level down and
+ * the rolled file becomes the first backup path.1.gz
+ *
+ * @author cstockhoff
+ */
+final class BackupCompressor {
+
+	/**
+	 * Suffix of compressed backups: path.backupNr.gz
+	 */
+	static final String SUFFIX = ".gz";
+
+	private static final ExecutorService executor = Executors.newSingleThreadExecutor( r -> {
+		Thread thread = new Thread( r, "Logger-BackupCompressor" );
+		thread.setDaemon( true );
+		thread.setPriority( Thread.MIN_PRIORITY );
+		return thread;
+	} );
+
+	private BackupCompressor() {
+	}
+
+	/**
+	 * Compress the rolled file to the first backup of path
+	 *
+	 * @param path         original filepath
+	 * @param rolled       renamed file, which should be compressed
+	 * @param countBackups Indicates the count of backups
+	 */
+	static void submit( String path, Path rolled, int countBackups ) {
+		executor.execute( () -> compress( path, rolled, countBackups ) );
+	}
+
+	/**
+	 * Blocks until all submitted files are compressed
+	 *
+	 * @param timeout max. time (ms) to wait
+	 */
+	static void await( long timeout ) {
+		Future<?> done = executor.submit( () -> {
+		} );
+		try {
+			done.get( timeout, TimeUnit.MILLISECONDS );
+		} catch( InterruptedException e ) {
+			Thread.currentThread().interrupt();
+		} catch( ExecutionException | TimeoutException e ) {
+			e.printStackTrace();
+		}
+	}
+
+	private static void compress( String path, Path rolled, int countBackups ) {
+		try {
+			FileBundle.shiftBackups( path, countBackups );
+
+			Path backupFile = Paths.get( path + ".1" + SUFFIX );
+			Path tempFile = Paths.get( backupFile + ".tmp" );
+			try (InputStream in = Files.newInputStream( rolled );
+				 OutputStream out = new GZIPOutputStream( Files.newOutputStream( tempFile ), 64 * 1024 )) {
+				in.transferTo( out );
+			}
+			Files.move( tempFile, backupFile, StandardCopyOption.REPLACE_EXISTING );
+			Files.delete( rolled );
+		} catch( IOException e ) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,407 @@
+package logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appender, which writes the logs in a compact binary format instead of the formatted text
+ * The logs are not formatted for this appender (see LogLine), use BinaryLogDecoder to render the file
+ * <p>
+ * Layout of the file (all numbers big-endian, varint: 7 bits per byte, low bits first):
+ * Header: 'L' 'O' 'G' 'B' version (1 byte)
+ * String: 0 (1 byte), id (varint), length (varint), UTF-8 bytes
+ * Record: 1 (1 byte), LogType.ordinal (1 byte), time (8 bytes, ns since the epoch),
+ * id of the location-string (varint), length of the content (varint), UTF-8 bytes of the content
+ * <p>
+ * Every location (see Logger.LocationLevel) is written once per opened file as String,
+ * the records only contain its id. At most MAX_STRINGS locations are kept, every further
+ * location is written as String with the id MAX_STRINGS directly before its record
+ * <p>
+ * The file is rolled, if it exceeds a max. size (see FileBundle.roll), every rolled file starts
+ * with its own header and dictionary, so each backup can be decoded on its own
+ *
+ * @author cstockhoff
+ */
+public class BinaryAppender implements Appender {
+
+	static final byte[] MAGIC = { 'L', 'O', 'G', 'B' };
+	static final byte VERSION = 1;
+	static final byte STRING = 0;
+	static final byte RECORD = 1;
+
+	/**
+	 * Max. count of interned locations, bounds the memory of the dictionary
+	 */
+	static final int MAX_STRINGS = 4096;
+
+	/**
+	 * Guards the buffer, the dictionary and the file (see FileAppender.lock)
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final String path;
+	private final ByteBuffer buffer;
+
+	/**
+	 * Max. time (ms) a log stays in the buffer (0: flush after every log)
+	 */
+	private final long flushInterval;
+	private final ScheduledFuture<?> flushTask;
+
+	/**
+	 * Max. size (bytes) of the file before it is rolled (0: no rolling)
+	 */
+	private final long maxFileSize;
+
+	/**
+	 * Count of backups kept by rolling (see FileBundle.roll)
+	 */
+	private final int countBackups;
+
+	/**
+	 * true, if the backups are compressed on a background thread
+	 */
+	private final boolean compressBackups;
+
+	/**
+	 * Ids of the strings, which are already written to the file
+	 */
+	private final Map<String, Integer> dictionary = new HashMap<>();
+
+	private FileChannel channel;
+	private long fileSize;
+	private long lastFlush;
+	private boolean closed;
+
+	/**
+	 * Opens the file given by its path for appending (will be created if it does not exist)
+	 *
+	 * @param path          of the file
+	 * @param bufferSize    size of the buffer (bytes), that is written at once
+	 * @param flushInterval max. time (ms) a log stays in the buffer (0: flush after every log)
+	 * @throws IOException if the file cannot be opened
+	 */
+	public BinaryAppender( String path, int bufferSize, long flushInterval ) throws IOException {
+		this( path, bufferSize, flushInterval, 0, 0, false );
+	}
+
+	/**
+	 * Opens the file given by its path for appending (will be created if it does not exist)
+	 * The file is rolled, if it exceeds maxFileSize
+	 *
+	 * @param path            of the file
+	 * @param bufferSize      size of the buffer (bytes), that is written at once
+	 * @param flushInterval   max. time (ms) a log stays in the buffer (0: flush after every log)
+	 * @param maxFileSize     max. size (bytes) of the file (0: no rolling)
+	 * @param countBackups    count of backups kept by rolling
+	 * @param compressBackups true, if the backups are compressed on a background thread
+	 * @throws IOException if the file cannot be opened
+	 */
+	public BinaryAppender( String path, int bufferSize, long flushInterval, long maxFileSize, int countBackups,
+						   boolean compressBackups ) throws IOException {
+		this.path = path;
+		this.flushInterval = flushInterval;
+		this.maxFileSize = maxFileSize;
+		this.countBackups = countBackups;
+		this.compressBackups = compressBackups;
+		buffer = ByteBuffer.allocateDirect( Math.max( 64, bufferSize ) );
+		open();
+		lastFlush = System.currentTimeMillis();
+
+		if( flushInterval > 0 )
+			flushTask = FileAppender.flusher.scheduleWithFixedDelay( this::flushIfDue, flushInterval, flushInterval, TimeUnit.MILLISECONDS );
+		else
+			flushTask = null;
+	}
+
+	/**
+	 * Append the raw parts of the log as record
+	 * If the appender is already closed, the log is dropped
+	 *
+	 * @param line log, which is not formatted by this appender
+	 */
+	@Override
+	public void append( LogLine line ) {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			try {
+				record( line.getLogType(), line.getTime(), line.getLocation(), line.getContent() );
+				appended();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Append all logs of the batch as records, the buffer is flushed once after the batch
+	 * If the appender is already closed, the logs are dropped
+	 *
+	 * @param batch logs, which are not formatted by this appender
+	 */
+	@Override
+	public void append( LogBatch batch ) {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			try {
+				for( int i = 0; i < batch.size(); i++ )
+					record( batch.getLogType(), batch.getTime( i ), batch.getLocation(), batch.getContent( i ) );
+				appended();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all buffered records to the file
+	 */
+	@Override
+	public void flush() {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			try {
+				writeBuffer();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+			lastFlush = System.currentTimeMillis();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all buffered records and closes the file
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			flush();
+			closed = true;
+			if( flushTask != null )
+				flushTask.cancel( false );
+			try {
+				channel.close();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return path of the file
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Rolls the file: The buffered records are written, the file is renamed to the first backup
+	 * (see FileBundle.roll) and a new file with a new dictionary is opened
+	 * If the file cannot be renamed, the records are appended to it until it exceeds maxFileSize once more
+	 */
+	public void roll() {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			long start = System.nanoTime();
+			try {
+				writeBuffer();
+			} catch( IOException e ) {
+				// the unwritten records belong to the old file, the new file has to start with its header
+				e.printStackTrace();
+				buffer.clear();
+			}
+			boolean rolled = false;
+			try {
+				channel.close();
+				FileBundle.roll( path, countBackups, compressBackups );
+				rolled = true;
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+			try {
+				open();
+				if( !rolled )
+					fileSize = 0;
+			} catch( IOException e ) {
+				e.printStackTrace();
+				closed = true;
+				if( flushTask != null )
+					flushTask.cancel( false );
+			}
+			LoggerMetrics.rolled( System.nanoTime() - start );
+			lastFlush = System.currentTimeMillis();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Opens the file, a new file starts with the header and an empty dictionary
+	 * The buffer has to be empty
+	 *
+	 * @throws IOException if the file cannot be opened
+	 */
+	private void open() throws IOException {
+		channel = FileChannel.open( Paths.get( path ), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND );
+		fileSize = channel.size();
+		dictionary.clear();
+		if( fileSize == 0 )
+			buffer.put( MAGIC ).put( VERSION );
+		LoggerMetrics.fileOpened();
+	}
+
+	/**
+	 * Returns the id of the string, the string is written to the file with its first use
+	 *
+	 * @param string to be interned
+	 * @return id of the string
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private int intern( String string ) throws IOException {
+		if( string == null )
+			string = "";
+		Integer id = dictionary.get( string );
+		if( id != null )
+			return id;
+
+		if( dictionary.size() < MAX_STRINGS ) {
+			id = dictionary.size();
+			dictionary.put( string, id );
+		} else {
+			// dictionary is full: the string is redefined for this record only
+			id = MAX_STRINGS;
+		}
+		byte[] bytes = string.getBytes( StandardCharsets.UTF_8 );
+		ensure( 1 + 5 + 5 );
+		buffer.put( STRING );
+		putVarint( id );
+		putVarint( bytes.length );
+		put( bytes );
+		return id;
+	}
+
+	/**
+	 * Puts one record into the buffer
+	 *
+	 * @param logType  Log-Level of the log
+	 * @param time     creation time of the log (ms)
+	 * @param location location of the caller
+	 * @param content  individual content
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private void record( Logger.LogType logType, long time, String location, String content ) throws IOException {
+		int id = intern( location );
+		byte[] bytes = content == null ? new byte[ 0 ] : content.getBytes( StandardCharsets.UTF_8 );
+
+		ensure( 1 + 1 + 8 + 5 + 5 );
+		buffer.put( RECORD )
+				.put( (byte) logType.ordinal() )
+				.putLong( time * 1_000_000L );
+		putVarint( id );
+		putVarint( bytes.length );
+		put( bytes );
+	}
+
+	/**
+	 * Rolls or flushes the buffer after records are appended, if necessary
+	 */
+	private void appended() {
+		long now = System.currentTimeMillis();
+		if( maxFileSize > 0 && fileSize + buffer.position() >= maxFileSize )
+			roll();
+		else if( flushInterval <= 0 || now - lastFlush >= flushInterval )
+			flush();
+	}
+
+	private void flushIfDue() {
+		lock.lock();
+		try {
+			if( buffer.position() > 0 && System.currentTimeMillis() - lastFlush >= flushInterval )
+				flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void putVarint( int value ) {
+		while( ( value & ~0x7F ) != 0 ) {
+			buffer.put( (byte) ( value & 0x7F | 0x80 ) );
+			value >>>= 7;
+		}
+		buffer.put( (byte) value );
+	}
+
+	/**
+	 * Copies the bytes into the buffer, the buffer is written to the file whenever it is full
+	 */
+	private void put( byte[] bytes ) throws IOException {
+		int offset = 0;
+		while( offset < bytes.length ) {
+			if( !buffer.hasRemaining() )
+				writeBuffer();
+			int count = Math.min( buffer.remaining(), bytes.length - offset );
+			buffer.put( bytes, offset, count );
+			offset += count;
+		}
+	}
+
+	/**
+	 * Writes the buffer to the file, if less than count bytes are remaining
+	 */
+	private void ensure( int count ) throws IOException {
+		if( buffer.remaining() < count )
+			writeBuffer();
+	}
+
+	/**
+	 * Writes the content of the buffer to the file and clears the buffer
+	 *
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private void writeBuffer() throws IOException {
+		buffer.flip();
+		if( !buffer.hasRemaining() ) {
+			buffer.clear();
+			return;
+		}
+		long written = 0;
+		try {
+			while( buffer.hasRemaining() )
+				written += channel.write( buffer );
+		} finally {
+			// unwritten bytes are kept for the next try, the buffer is ready for put again (see FileAppender.writeBuffer)
+			buffer.compact();
+			fileSize += written;
+			LoggerMetrics.bytesWritten( LoggerMetrics.Sink.BINARY_FILE, written );
+			LoggerMetrics.fileFlushed();
+		}
+	}
+}
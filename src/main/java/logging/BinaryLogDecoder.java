@@ -0,0 +1,169 @@
+package logging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Renders a file of the BinaryAppender into the text layout of the Logger (see Logger.defaultString)
+ * <p>
+ * Usage: java -cp logger.jar logging.BinaryLogDecoder [--date[=pattern]] file
+ * The pattern of the date is the same as of logDatePattern (DEFAULT, ISO, EPOCH, ...)
+ * <p>
+ * A file, which ends with an incomplete entry (e.g. after a crash), is rendered up to this entry
+ *
+ * @author cstockhoff
+ */
+public final class BinaryLogDecoder {
+
+	/**
+	 * Log-Indicators per LogType.ordinal, same as the Log-Indicators of the Logger
+	 */
+	private static final String[] INDICATORS = Arrays.stream( Logger.LogType.values() )
+			.map( logType -> "[" + logType.name() + "]" + " " )
+			.toArray( String[]::new );
+
+	private BinaryLogDecoder() {
+	}
+
+	public static void main( String[] args ) throws IOException {
+		TimestampFormatter date = null;
+		String file = null;
+		for( String arg : args ) {
+			if( arg.equals( "--date" ) )
+				date = new TimestampFormatter( TimestampFormatter.DEFAULT );
+			else if( arg.startsWith( "--date=" ) )
+				date = new TimestampFormatter( arg.substring( "--date=".length() ) );
+			else
+				file = arg;
+		}
+		if( file == null ) {
+			System.err.println( "Usage: java -cp logger.jar logging.BinaryLogDecoder [--date[=pattern]] file" );
+			System.exit( 1 );
+		}
+
+		Writer out = new BufferedWriter( new OutputStreamWriter( System.out ) );
+		try (InputStream in = Files.newInputStream( Paths.get( file ) )) {
+			decode( in, out, date );
+		} finally {
+			out.flush();
+		}
+	}
+
+	/**
+	 * Renders every record of the binary file as one line
+	 * If the content ends with an incomplete entry, the offset of the entry is printed to System.err
+	 * and all records before it are rendered
+	 *
+	 * @param in   content of the binary file
+	 * @param out  to which the lines are written
+	 * @param date formatter of the date ({1}), null if no date is rendered
+	 * @throws IOException if the content cannot be read or is no binary Log-File
+	 */
+	static void decode( InputStream in, Appendable out, TimestampFormatter date ) throws IOException {
+		CountingInputStream counting = new CountingInputStream( new BufferedInputStream( in, 64 * 1024 ) );
+		DataInputStream data = new DataInputStream( counting );
+		byte[] magic = new byte[ BinaryAppender.MAGIC.length ];
+		data.readFully( magic );
+		if( !Arrays.equals( magic, BinaryAppender.MAGIC ) || data.readByte() != BinaryAppender.VERSION )
+			throw new IOException( "No binary Log-File" );
+
+		LogFormatter formatter = new LogFormatter( Logger.defaultString );
+		StringBuilder line = new StringBuilder( 256 );
+		List<String> dictionary = new ArrayList<>();
+
+		int tag;
+		long offset = counting.count;
+		while( ( tag = data.read() ) >= 0 ) {
+			try {
+				if( tag == BinaryAppender.STRING ) {
+					int id = readVarint( data );
+					String string = readString( data );
+					while( dictionary.size() <= id )
+						dictionary.add( "" );
+					dictionary.set( id, string );
+				} else if( tag == BinaryAppender.RECORD ) {
+					int logType = data.readUnsignedByte();
+					long time = data.readLong() / 1_000_000L;
+					String location = dictionary.get( readVarint( data ) );
+					String content = readString( data );
+
+					line.setLength( 0 );
+					formatter.format( line, INDICATORS[ logType ], date, time, location, content );
+					out.append( line ).append( '\n' );
+				} else {
+					throw new IOException( "Unknown entry: " + tag );
+				}
+			} catch( EOFException e ) {
+				System.err.println( "Truncated at offset " + offset );
+				return;
+			}
+			offset = counting.count;
+		}
+	}
+
+	private static String readString( DataInputStream data ) throws IOException {
+		byte[] bytes = new byte[ readVarint( data ) ];
+		data.readFully( bytes );
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	private static int readVarint( DataInputStream data ) throws IOException {
+		int value = 0;
+		for( int shift = 0; shift < 32; shift += 7 ) {
+			int b = data.read();
+			if( b < 0 )
+				throw new EOFException();
+			value |= ( b & 0x7F ) << shift;
+			if( ( b & 0x80 ) == 0 )
+				return value;
+		}
+		throw new IOException( "Malformed varint" );
+	}
+
+	/**
+	 * Counts the read bytes, so the offset of an incomplete entry can be reported
+	 */
+	private static final class CountingInputStream extends FilterInputStream {
+		private long count;
+
+		private CountingInputStream( InputStream in ) {
+			super( in );
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if( b >= 0 )
+				count++;
+			return b;
+		}
+
+		@Override
+		public int read( byte[] bytes, int offset, int length ) throws IOException {
+			int read = super.read( bytes, offset, length );
+			if( read > 0 )
+				count += read;
+			return read;
+		}
+
+		@Override
+		public long skip( long n ) throws IOException {
+			long skipped = super.skip( n );
+			count += skipped;
+			return skipped;
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package logging;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the location of the logging caller (see Logger.LocationLevel)
+ * <p>
+ * The stack is walked lazily with a StackWalker until the first frame, which is not skipped
+ * (see LoggingAnnotation.SkipLogging). Every frame is cached by its class and method, the cache
+ * remembers if the frame is skipped and holds the prebuilt location strings,
+ * so a warmed up call site costs one partial walk and a map lookup
+ *
+ * @author cstockhoff
+ */
+@LoggingAnnotation.SkipLogging
+final class CallSite {
+
+	/**
+	 * Max. count of cached line numbers per method
+	 */
+	private static final int MAX_LINES = 64;
+
+	/**
+	 * Line number used for Location-Levels without line number
+	 */
+	private static final int NO_LINE = -1;
+
+	private static final StackWalker walker = StackWalker.getInstance( StackWalker.Option.RETAIN_CLASS_REFERENCE );
+
+	/**
+	 * Cache of all call sites, keyed by class and method name
+	 */
+	private static final ClassValue<ConcurrentHashMap<String, CallSite>> cache = new ClassValue<>() {
+		@Override
+		protected ConcurrentHashMap<String, CallSite> computeValue( Class<?> type ) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Cache of the call sites of NamedLoggers, keyed by the class of the logger and the method name
+	 * of the caller, if the caller is not the class of the logger (e.g. an inner class)
+	 */
+	private static final ClassValue<ConcurrentHashMap<String, CallSite>> owned = new ClassValue<>() {
+		@Override
+		protected ConcurrentHashMap<String, CallSite> computeValue( Class<?> type ) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Returns the first frame, which is not skipped
+	 */
+	private static final Function<Stream<StackWalker.StackFrame>, StackWalker.StackFrame> firstLogged =
+			frames -> frames.filter( frame -> !of( frame ).skipped ).findFirst().orElse( null );
+
+	/**
+	 * Prebuilt location strings of one Location-Level, indexed like the line numbers
+	 */
+	private static final class Lines {
+		private final Logger.LocationLevel level;
+		private final int[] numbers;
+		private final String[] texts;
+
+		private Lines( Logger.LocationLevel level, int[] numbers, String[] texts ) {
+			this.level = level;
+			this.numbers = numbers;
+			this.texts = texts;
+		}
+	}
+
+	private final String className;
+	private final String methodName;
+	private final boolean skipped;
+	private volatile Lines lines;
+
+	private CallSite( Class<?> clazz, String methodName ) {
+		this.className = clazz.getName();
+		this.methodName = methodName;
+		this.skipped = isSkipped( clazz, methodName );
+	}
+
+	private CallSite( String className, String methodName, boolean skipped ) {
+		this.className = className;
+		this.methodName = methodName;
+		this.skipped = skipped;
+	}
+
+	/**
+	 * Resolves the location of the logging caller
+	 *
+	 * @param level Location-Level to be used
+	 * @return location string, empty for LocationLevel.NONE
+	 */
+	static String location( Logger.LocationLevel level ) {
+		if( level == Logger.LocationLevel.NONE )
+			return "";
+
+		StackWalker.StackFrame frame = walker.walk( firstLogged );
+		if( frame == null )
+			return "";
+		return of( frame ).location( level, frame.getLineNumber() );
+	}
+
+	/**
+	 * Resolves the location of the logging caller with the class name of the owner (see NamedLogger)
+	 * Method name and line number are still taken from the caller
+	 *
+	 * @param level Location-Level to be used
+	 * @param owner class, whose name is used for the location
+	 * @return location string, empty for LocationLevel.NONE
+	 */
+	static String location( Logger.LocationLevel level, Class<?> owner ) {
+		if( level == Logger.LocationLevel.NONE )
+			return "";
+
+		StackWalker.StackFrame frame = walker.walk( firstLogged );
+		if( frame == null )
+			return "";
+		if( frame.getDeclaringClass() == owner )
+			return of( frame ).location( level, frame.getLineNumber() );
+
+		ConcurrentHashMap<String, CallSite> methods = owned.get( owner );
+		CallSite site = methods.get( frame.getMethodName() );
+		if( site == null )
+			site = methods.computeIfAbsent( frame.getMethodName(), name -> new CallSite( owner.getName(), name, false ) );
+		return site.location( level, frame.getLineNumber() );
+	}
+
+	/**
+	 * @return class of the logging caller, Logger.class if there is none
+	 */
+	static Class<?> callerClass() {
+		StackWalker.StackFrame frame = walker.walk( firstLogged );
+		return frame == null ? Logger.class : frame.getDeclaringClass();
+	}
+
+	/**
+	 * Returns the cached call site of the frame
+	 */
+	private static CallSite of( StackWalker.StackFrame frame ) {
+		Class<?> clazz = frame.getDeclaringClass();
+		ConcurrentHashMap<String, CallSite> methods = cache.get( clazz );
+		CallSite site = methods.get( frame.getMethodName() );
+		if( site == null )
+			site = methods.computeIfAbsent( frame.getMethodName(), name -> new CallSite( clazz, name ) );
+		return site;
+	}
+
+	/**
+	 * Checks if the class or the method is annotated with SkipLogging
+	 */
+	private static boolean isSkipped( Class<?> clazz, String methodName ) {
+		LoggingAnnotation.SkipLogging skipClass = clazz.getAnnotation( LoggingAnnotation.SkipLogging.class );
+		if( skipClass != null && skipClass.value() )
+			return true;
+
+		for( Method method : clazz.getDeclaredMethods() ) {
+			if( method.getName().equals( methodName ) ) {
+				LoggingAnnotation.SkipLogging skipMethod = method.getAnnotation( LoggingAnnotation.SkipLogging.class );
+				return skipMethod != null && skipMethod.value();
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the prebuilt location string of the line, builds it on the first call
+	 *
+	 * @param level Location-Level to be used
+	 * @param line  line number of the frame
+	 * @return location string
+	 */
+	private String location( Logger.LocationLevel level, int line ) {
+		if( !hasLineNumber( level ) )
+			line = NO_LINE;
+
+		Lines current = lines;
+		if( current != null && current.level == level ) {
+			for( int i = 0; i < current.numbers.length; i++ )
+				if( current.numbers[ i ] == line )
+					return current.texts[ i ];
+		}
+
+		String text = build( level, line );
+		if( current == null || current.level != level ) {
+			lines = new Lines( level, new int[]{ line }, new String[]{ text } );
+		} else if( current.numbers.length < MAX_LINES ) {
+			int[] numbers = Arrays.copyOf( current.numbers, current.numbers.length + 1 );
+			String[] texts = Arrays.copyOf( current.texts, current.texts.length + 1 );
+			numbers[ numbers.length - 1 ] = line;
+			texts[ texts.length - 1 ] = text;
+			lines = new Lines( level, numbers, texts );
+		}
+		return text;
+	}
+
+	private String build( Logger.LocationLevel level, int line ) {
+		String simpleName = className.substring( className.lastIndexOf( '.' ) + 1 );
+		switch( level ) {
+			case FULL_QUALIFIED:
+				return "[ " + className + " - " + methodName + ":" + line + " ] ";
+			case CLASSNAME_METHODNAME_LINENUMBER:
+				return "[ " + simpleName + " - " + methodName + ":" + line + " ] ";
+			case CLASSNAME_METHODNAME:
+				return "[ " + simpleName + " - " + methodName + " ] ";
+			case CLASSNAME_LINENUMBER:
+				return "[ " + simpleName + ":" + line + " ] ";
+			case CLASSNAME:
+				return "[ " + simpleName + " ] ";
+			case METHODNAME_LINENUMBER:
+				return "[ " + methodName + ":" + line + " ] ";
+			case METHODNAME:
+				return "[ " + methodName + " ] ";
+			case NONE:
+			default:
+				return "";
+		}
+	}
+
+	private static boolean hasLineNumber( Logger.LocationLevel level ) {
+		return level != Logger.LocationLevel.CLASSNAME_METHODNAME && level != Logger.LocationLevel.METHODNAME
+				&& level != Logger.LocationLevel.CLASSNAME;
+	}
+}
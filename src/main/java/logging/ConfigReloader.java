@@ -0,0 +1,82 @@
+package logging;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls the modification time of Logger.properties and reloads the Logger, if the file has changed
+ * (see Logger.reload). Only a Logger.properties in a directory of the classpath can be watched,
+ * not one inside a jar
+ *
+ * @author cstockhoff
+ */
+final class ConfigReloader {
+
+	private static ScheduledExecutorService executor;
+	private static Path file;
+	private static FileTime lastModified;
+
+	private ConfigReloader() {
+	}
+
+	/**
+	 * Starts polling Logger.properties on a daemon thread
+	 *
+	 * @param interval time (ms) between two polls
+	 */
+	static synchronized void start( long interval ) {
+		if( executor != null || interval <= 0 )
+			return;
+
+		URL url = ResBundle.class.getClassLoader().getResource( "Logger.properties" );
+		if( url == null || !"file".equals( url.getProtocol() ) ) {
+			Logger.info( "Logger.properties cannot be watched: " + url );
+			return;
+		}
+		try {
+			file = Paths.get( url.toURI() );
+			lastModified = Files.getLastModifiedTime( file );
+		} catch( URISyntaxException | IOException e ) {
+			e.printStackTrace();
+			return;
+		}
+
+		executor = Executors.newSingleThreadScheduledExecutor( r -> {
+			Thread thread = new Thread( r, "Logger-ConfigReload" );
+			thread.setDaemon( true );
+			return thread;
+		} );
+		executor.scheduleWithFixedDelay( ConfigReloader::poll, interval, interval, TimeUnit.MILLISECONDS );
+	}
+
+	/**
+	 * Stops polling Logger.properties
+	 */
+	static synchronized void stop() {
+		if( executor != null ) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	private static void poll() {
+		try {
+			FileTime modified = Files.getLastModifiedTime( file );
+			if( modified.equals( lastModified ) )
+				return;
+			lastModified = modified;
+		} catch( IOException e ) {
+			// the file is replaced at the moment, try it with the next poll
+			return;
+		}
+		Logger.reload();
+	}
+}
@@ -0,0 +1,158 @@
+package logging;
+
+import java.io.PrintStream;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Appender for the PrintStreams of the Logger (see Logger.out and Logger.err)
+ * <p>
+ * The encoded logs are collected in an own buffer and written to the PrintStream at once,
+ * if the buffer is full, if the flush interval has passed, at the end of a batch of the
+ * asynchronous Log-Mode or if flush is called. ERROR-Logs are written immediately
+ * <p>
+ * The PrintStreams are read for every log, so an individual PrintStream assigned to
+ * Logger.out or Logger.err is used from the next log on, the buffered logs are written
+ * to the PrintStream they were buffered for
+ *
+ * @author cstockhoff
+ */
+public class ConsoleAppender implements Appender {
+
+	/**
+	 * Guards the buffer (see FileAppender.lock)
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final byte[] buffer;
+	private int count;
+
+	/**
+	 * PrintStream, the buffered logs are written to
+	 */
+	private PrintStream target;
+
+	/**
+	 * Max. time (ms) a log stays in the buffer (0: write every log immediately)
+	 */
+	private final long flushInterval;
+	private final ScheduledFuture<?> flushTask;
+	private long lastFlush;
+
+	/**
+	 * @param bufferSize    size of the buffer (bytes), that is written at once
+	 * @param flushInterval max. time (ms) a log stays in the buffer (0: write every log immediately)
+	 */
+	public ConsoleAppender( int bufferSize, long flushInterval ) {
+		this.buffer = new byte[ Math.max( 64, bufferSize ) ];
+		this.flushInterval = flushInterval;
+		lastFlush = System.currentTimeMillis();
+
+		if( flushInterval > 0 )
+			flushTask = FileAppender.flusher.scheduleWithFixedDelay( this::flushIfDue, flushInterval, flushInterval, TimeUnit.MILLISECONDS );
+		else
+			flushTask = null;
+	}
+
+	/**
+	 * Append the encoded log to the buffer of Logger.out (Logger.err for ERROR-Logs)
+	 *
+	 * @param line formatted and encoded log
+	 */
+	@Override
+	public void append( LogLine line ) {
+		append( line.getLogType(), line.getBytes(), line.getLength() );
+	}
+
+	/**
+	 * Append all encoded logs of the batch at once, a batch larger than the buffer
+	 * is written to the PrintStream in one call
+	 *
+	 * @param batch formatted and encoded logs
+	 */
+	@Override
+	public void append( LogBatch batch ) {
+		append( batch.getLogType(), batch.getBytes(), batch.getLength() );
+	}
+
+	private void append( Logger.LogType logType, byte[] bytes, int length ) {
+		lock.lock();
+		try {
+			boolean error = logType == Logger.LogType.ERROR;
+			PrintStream stream = error ? Logger.err : Logger.out;
+			if( stream != target ) {
+				writeBuffer();
+				target = stream;
+			}
+
+			if( length > buffer.length - count )
+				writeBuffer();
+			if( length > buffer.length ) {
+				stream.write( bytes, 0, length );
+				LoggerMetrics.bytesWritten( LoggerMetrics.Sink.CONSOLE, length );
+			} else {
+				System.arraycopy( bytes, 0, buffer, count, length );
+				count += length;
+			}
+
+			// the Consumer-Thread of the asynchronous Log-Mode flushes at the end of its batch
+			if( error || flushInterval <= 0 && !AsyncLogger.isConsumer() )
+				flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all buffered logs to their PrintStream and flushes it
+	 */
+	@Override
+	public void flush() {
+		lock.lock();
+		try {
+			writeBuffer();
+			if( target != null )
+				target.flush();
+			lastFlush = System.currentTimeMillis();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all buffered logs and stops the flush timer, the PrintStreams are not closed
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			flush();
+			if( flushTask != null )
+				flushTask.cancel( false );
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void flushIfDue() {
+		lock.lock();
+		try {
+			if( count > 0 && System.currentTimeMillis() - lastFlush >= flushInterval )
+				flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes the buffer to the PrintStream in one call and clears the buffer
+	 */
+	private void writeBuffer() {
+		if( count > 0 ) {
+			target.write( buffer, 0, count );
+			LoggerMetrics.bytesWritten( LoggerMetrics.Sink.CONSOLE, count );
+			count = 0;
+		}
+	}
+}
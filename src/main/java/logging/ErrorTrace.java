@@ -0,0 +1,322 @@
+package logging;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendered StackTrace of an ERROR-Log, cached by its throw site (the first errorLogLevel frames)
+ * <p>
+ * If the same exception is thrown again, only the frames are compared, they are not rendered again
+ * Causes and suppressed exceptions are rendered like Throwable.printStackTrace does: Frames in common
+ * with the enclosing trace are elided ("... N more"), so are frames behind errorLogLevel
+ * Identical errors (same throw site, type and message) can be suppressed for an interval
+ * (see Logger.errorSuppressInterval), the count of suppressed errors is reported with the next logged
+ * identical error, at the end of the interval or at shutdown (see reportSuppressed)
+ *
+ * @author cstockhoff
+ */
+final class ErrorTrace {
+
+	/**
+	 * Padding of every line of the StackTrace (length of the ERROR-Indicator)
+	 */
+	static final String PADDING = " ".repeat( Logger.indicator( Logger.LogType.ERROR ).length() );
+
+	/**
+	 * Max. count of cached throw sites, the cache is cleared if it is exceeded
+	 */
+	private static final int MAX_SITES = 1024;
+
+	private static final ConcurrentHashMap<Site, ErrorTrace> cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Max. count of tracked identical errors, the pending counts are reported and
+	 * the errors are cleared if it is exceeded
+	 */
+	private static final int MAX_STORMS = 1024;
+
+	private static final ConcurrentHashMap<Storm, Storm> storms = new ConcurrentHashMap<>();
+
+	/**
+	 * First frames of a StackTrace, the frames are only copied if the site is cached
+	 */
+	private static final class Site {
+		private final StackTraceElement[] frames;
+		private final int length;
+		private final int hash;
+
+		private Site( StackTraceElement[] frames, int length ) {
+			this.frames = frames;
+			this.length = length;
+			int hash = 1;
+			for( int i = 0; i < length; i++ )
+				hash = 31 * hash + frames[ i ].hashCode();
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals( Object o ) {
+			if( !( o instanceof Site ) )
+				return false;
+			Site other = (Site) o;
+			return hash == other.hash && Arrays.equals( frames, 0, length, other.frames, 0, other.length );
+		}
+	}
+
+	/**
+	 * Identical errors: same throw site, type and message
+	 * The counters are guarded by the monitor of the Storm, it is never held while waiting or writing
+	 */
+	private static final class Storm {
+		private final ErrorTrace trace;
+		private final Class<?> type;
+		private final String message;
+		private final int hash;
+		private long lastLogged;
+		private int suppressed;
+		private boolean scheduled;
+
+		private Storm( ErrorTrace trace, Throwable throwable ) {
+			this.trace = trace;
+			this.type = throwable.getClass();
+			this.message = throwable.getMessage();
+			this.hash = 31 * ( 31 * System.identityHashCode( trace ) + type.hashCode() ) + Objects.hashCode( message );
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals( Object o ) {
+			if( !( o instanceof Storm ) )
+				return false;
+			Storm other = (Storm) o;
+			return trace == other.trace && type == other.type && Objects.equals( message, other.message );
+		}
+
+		/**
+		 * @return description of the errors like Throwable.toString
+		 */
+		private String description() {
+			return message == null ? type.getName() : type.getName() + ": " + message;
+		}
+	}
+
+	private final String text;
+
+	private ErrorTrace( String text ) {
+		this.text = text;
+	}
+
+	/**
+	 * Returns the cached trace of the throw site, the trace is rendered with the first error of the site
+	 *
+	 * @param stackTrace StackTrace of the Throwable
+	 * @param count      count of rendered frames
+	 * @return trace of the throw site
+	 */
+	static ErrorTrace of( StackTraceElement[] stackTrace, int count ) {
+		Site site = new Site( stackTrace, count );
+		ErrorTrace trace = cache.get( site );
+		if( trace != null )
+			return trace;
+
+		if( cache.size() >= MAX_SITES )
+			cache.clear();
+		Site copy = new Site( Arrays.copyOf( stackTrace, count ), count );
+		return cache.computeIfAbsent( copy, key -> new ErrorTrace( render( key.frames ) ) );
+	}
+
+	private static String render( StackTraceElement[] frames ) {
+		StringBuilder builder = new StringBuilder( frames.length * 64 );
+		for( StackTraceElement frame : frames ) {
+			if( builder.length() > 0 )
+				builder.append( '\n' );
+			builder.append( PADDING ).append( frame );
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Enclosed Throwable, which is not rendered yet
+	 */
+	private static final class Enclosed {
+		private final Throwable throwable;
+		private final StackTraceElement[] enclosingTrace;
+		private final String caption;
+
+		private Enclosed( Throwable throwable, StackTraceElement[] enclosingTrace, String caption ) {
+			this.throwable = throwable;
+			this.enclosingTrace = enclosingTrace;
+			this.caption = caption;
+		}
+	}
+
+	/**
+	 * Renders the suppressed exceptions and the causes of the Throwable in the order of
+	 * Throwable.printStackTrace, the chain is walked without recursion
+	 *
+	 * @param throwable  whose suppressed exceptions and causes are rendered
+	 * @param stackTrace StackTrace of the Throwable
+	 * @param depth      max. count of rendered frames per Throwable (see Logger.errorLogLevel)
+	 * @param builder    to which every Throwable is appended as new lines
+	 */
+	static void appendEnclosed( Throwable throwable, StackTraceElement[] stackTrace, int depth, StringBuilder builder ) {
+		Set<Throwable> rendered = Collections.newSetFromMap( new IdentityHashMap<>() );
+		rendered.add( throwable );
+		Deque<Enclosed> pending = new ArrayDeque<>();
+		push( pending, throwable, stackTrace );
+
+		while( !pending.isEmpty() ) {
+			Enclosed enclosed = pending.pop();
+			builder.append( '\n' ).append( PADDING ).append( enclosed.caption );
+			if( !rendered.add( enclosed.throwable ) ) {
+				builder.append( "[CIRCULAR REFERENCE: " ).append( enclosed.throwable ).append( ']' );
+				continue;
+			}
+			builder.append( enclosed.throwable );
+
+			StackTraceElement[] trace = enclosed.throwable.getStackTrace();
+			int unique = trace.length;
+			for( int n = enclosed.enclosingTrace.length - 1; unique > 0 && n >= 0; unique--, n-- )
+				if( !trace[ unique - 1 ].equals( enclosed.enclosingTrace[ n ] ) )
+					break;
+			int count = Math.min( unique, Math.max( 1, depth ) );
+			if( count > 0 )
+				builder.append( '\n' ).append( of( trace, count ).text );
+			if( count < trace.length )
+				builder.append( '\n' ).append( PADDING ).append( "... " ).append( trace.length - count ).append( " more" );
+
+			push( pending, enclosed.throwable, trace );
+		}
+	}
+
+	/**
+	 * Pushes the cause and the suppressed exceptions, so the suppressed exceptions are rendered first
+	 */
+	private static void push( Deque<Enclosed> pending, Throwable throwable, StackTraceElement[] stackTrace ) {
+		Throwable cause = throwable.getCause();
+		if( cause != null )
+			pending.push( new Enclosed( cause, stackTrace, "Caused by: " ) );
+		Throwable[] suppressed = throwable.getSuppressed();
+		for( int i = suppressed.length - 1; i >= 0; i-- )
+			pending.push( new Enclosed( suppressed[ i ], stackTrace, "Suppressed: " ) );
+	}
+
+	/**
+	 * @return rendered frames, every line starts with PADDING
+	 */
+	String text() {
+		return text;
+	}
+
+	/**
+	 * Decides, if the error of this throw site is logged
+	 * Within the interval after a logged error, all identical errors (same type and message) are suppressed
+	 * The count of the suppressed errors is reported at the end of the interval, if no identical error follows
+	 *
+	 * @param throwable error to be logged
+	 * @param now       current time (ms)
+	 * @param interval  time (ms) identical errors are suppressed
+	 * @return line with the count of the suppressed errors (empty if none was suppressed),
+	 * null if the error is suppressed
+	 */
+	String admit( Throwable throwable, long now, long interval ) {
+		if( interval <= 0 )
+			return "";
+
+		Storm key = new Storm( this, throwable );
+		Storm storm = storms.get( key );
+		if( storm == null ) {
+			if( storms.size() >= MAX_STORMS )
+				reportSuppressed();
+			storm = storms.computeIfAbsent( key, k -> k );
+		}
+
+		int count;
+		long since;
+		synchronized( storm ) {
+			if( now - storm.lastLogged < interval ) {
+				storm.suppressed++;
+				if( !storm.scheduled ) {
+					storm.scheduled = true;
+					schedule( storm, storm.lastLogged + interval - now );
+				}
+				return null;
+			}
+			count = storm.suppressed;
+			since = storm.lastLogged;
+			storm.suppressed = 0;
+			storm.lastLogged = now;
+		}
+		if( count == 0 )
+			return "";
+		return "\n" + PADDING + suppressedLine( count, now - since );
+	}
+
+	/**
+	 * Reports the pending counts of all suppressed errors and forgets the errors (e.g. at shutdown)
+	 */
+	static void reportSuppressed() {
+		for( Storm storm : storms.keySet() ) {
+			storms.remove( storm );
+			report( storm, System.currentTimeMillis() );
+		}
+	}
+
+	/**
+	 * Reports the pending count at the end of the interval of the storm
+	 */
+	private static void schedule( Storm storm, long delay ) {
+		FileAppender.flusher.schedule( () -> expire( storm ), Math.max( 0, delay ), TimeUnit.MILLISECONDS );
+	}
+
+	private static void expire( Storm storm ) {
+		long now = System.currentTimeMillis();
+		long interval = Logger.errorSuppressInterval * 1000L;
+		synchronized( storm ) {
+			storm.scheduled = false;
+			// an identical error was logged meanwhile, so the interval is not over yet
+			if( storm.suppressed > 0 && now - storm.lastLogged < interval ) {
+				storm.scheduled = true;
+				schedule( storm, storm.lastLogged + interval - now );
+				return;
+			}
+		}
+		report( storm, now );
+	}
+
+	/**
+	 * Logs the pending count of the suppressed errors, the next identical error is logged again
+	 */
+	private static void report( Storm storm, long now ) {
+		int count;
+		long since;
+		synchronized( storm ) {
+			count = storm.suppressed;
+			since = storm.lastLogged;
+			storm.suppressed = 0;
+		}
+		if( count > 0 && Logger.isEnabled( Logger.LogType.ERROR ) )
+			Logger.log( Logger.LogType.ERROR, "", "[ " + "Message: " + storm.description() + " ]" + "\n"
+					+ PADDING + suppressedLine( count, now - since ) );
+	}
+
+	private static String suppressedLine( int count, long millis ) {
+		return "suppressed " + count + " identical errors in the last " + millis / 1000 + " seconds";
+	}
+}
@@ -0,0 +1,434 @@
+package logging;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Long-lived appender for a Log-File
+ * The FileChannel stays open for the life of the appender, lines are encoded into a
+ * reusable direct ByteBuffer, which is written to the file if it is full,
+ * if the flush interval has passed or if flush/close is called
+ * <p>
+ * The file can be rolled at runtime, if it exceeds a max. size or at a time boundary (see RollInterval)
+ * The file is renamed to the first backup (see FileBundle.roll), so writers are only blocked for some renames
+ *
+ * @author cstockhoff
+ */
+public class FileAppender implements Appender {
+
+	/**
+	 * Time boundaries, at which the file is rolled
+	 */
+	public enum RollInterval {
+		NONE( null ),
+		MINUTELY( ChronoUnit.MINUTES ),
+		HOURLY( ChronoUnit.HOURS ),
+		DAILY( ChronoUnit.DAYS );
+
+		private final ChronoUnit unit;
+
+		RollInterval( ChronoUnit unit ) {
+			this.unit = unit;
+		}
+
+		ChronoUnit unit() {
+			return unit;
+		}
+	}
+
+	/**
+	 * Daemon-Thread, which flushes the appenders after their flush interval
+	 */
+	static final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor( r -> {
+		Thread thread = new Thread( r, "Logger-FileFlush" );
+		thread.setDaemon( true );
+		return thread;
+	} );
+
+	/**
+	 * Guards the buffer and the file, a lock instead of a monitor,
+	 * so virtual threads are not pinned to their carrier while the file is written
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final String path;
+	private final ByteBuffer buffer;
+	private final CharsetEncoder encoder;
+	private final byte[] lineSeparator;
+
+	/**
+	 * Max. time (ms) a line stays in the buffer (0: flush after every line)
+	 */
+	private final long flushInterval;
+	private final ScheduledFuture<?> flushTask;
+
+	/**
+	 * Max. size (bytes) of the file before it is rolled (0: no size-based rolling)
+	 */
+	private final long maxFileSize;
+	private final RollInterval rollInterval;
+
+	/**
+	 * Count of backups kept by rolling (see FileBundle.roll)
+	 */
+	private final int countBackups;
+
+	/**
+	 * true, if the backups are compressed on a background thread
+	 */
+	private final boolean compressBackups;
+
+	private FileChannel channel;
+
+	/**
+	 * Written bytes of the file, after a failed roll only the bytes written since then (see roll)
+	 */
+	private long fileSize;
+	private long nextRoll;
+	private long lastFlush;
+	private boolean closed;
+
+	/**
+	 * Opens the file given by its path for appending (will be created if it does not exist)
+	 *
+	 * @param path          of the file
+	 * @param bufferSize    size of the buffer (bytes), that is written at once
+	 * @param flushInterval max. time (ms) a line stays in the buffer (0: flush after every line)
+	 * @throws IOException if the file cannot be opened
+	 */
+	public FileAppender( String path, int bufferSize, long flushInterval ) throws IOException {
+		this( path, bufferSize, flushInterval, 0, RollInterval.NONE, 0, false );
+	}
+
+	/**
+	 * Opens the file given by its path for appending (will be created if it does not exist)
+	 * The file is rolled, if it exceeds maxFileSize or at the boundary of the rollInterval
+	 *
+	 * @param path            of the file
+	 * @param bufferSize      size of the buffer (bytes), that is written at once
+	 * @param flushInterval   max. time (ms) a line stays in the buffer (0: flush after every line)
+	 * @param maxFileSize     max. size (bytes) of the file (0: no size-based rolling)
+	 * @param rollInterval    time boundary, at which the file is rolled
+	 * @param countBackups    count of backups kept by rolling
+	 * @param compressBackups true, if the backups are compressed on a background thread
+	 * @throws IOException if the file cannot be opened
+	 */
+	public FileAppender( String path, int bufferSize, long flushInterval, long maxFileSize, RollInterval rollInterval,
+						 int countBackups, boolean compressBackups ) throws IOException {
+		this.path = path;
+		this.flushInterval = flushInterval;
+		this.maxFileSize = maxFileSize;
+		this.rollInterval = rollInterval;
+		this.countBackups = countBackups;
+		this.compressBackups = compressBackups;
+		open();
+		buffer = ByteBuffer.allocateDirect( Math.max( 64, bufferSize ) );
+		encoder = Charset.defaultCharset().newEncoder()
+				.onMalformedInput( CodingErrorAction.REPLACE )
+				.onUnmappableCharacter( CodingErrorAction.REPLACE );
+		lineSeparator = "\n".getBytes( encoder.charset() );
+		lastFlush = System.currentTimeMillis();
+
+		if( flushInterval > 0 )
+			flushTask = flusher.scheduleWithFixedDelay( this::flushIfDue, flushInterval, flushInterval, TimeUnit.MILLISECONDS );
+		else
+			flushTask = null;
+	}
+
+	/**
+	 * Append a line to the file
+	 * If the appender is already closed, the line is appended by FileBundle.appendFile
+	 *
+	 * @param line to be appended (without line separator)
+	 */
+	public void append( CharSequence line ) {
+		lock.lock();
+		try {
+			// a failed roll closes the appender
+			long now = System.currentTimeMillis();
+			if( !closed && now >= nextRoll )
+				roll();
+			if( closed ) {
+				FileBundle.appendFile( path, line.toString() );
+				return;
+			}
+			try {
+				encode( CharBuffer.wrap( line ) );
+				if( buffer.remaining() < lineSeparator.length )
+					writeBuffer();
+				buffer.put( lineSeparator );
+
+				appended( now );
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Append the encoded log to the file
+	 * If the appender is already closed, the line is appended by FileBundle.appendFile
+	 *
+	 * @param line formatted and encoded log
+	 */
+	@Override
+	public void append( LogLine line ) {
+		if( !append( line.getBytes(), line.getLength() ) )
+			FileBundle.appendFile( path, line.getText().toString() );
+	}
+
+	/**
+	 * Append all encoded logs of the batch at once, a batch larger than the buffer
+	 * is written to the file in one call
+	 * If the appender is already closed, the logs are appended by FileBundle.appendFile
+	 *
+	 * @param batch formatted and encoded logs
+	 */
+	@Override
+	public void append( LogBatch batch ) {
+		if( !append( batch.getBytes(), batch.getLength() ) )
+			FileBundle.appendFile( path, batch.getLines() );
+	}
+
+	/**
+	 * Copies the bytes into the buffer, bytes, which do not fit into the empty buffer,
+	 * are written to the file directly
+	 *
+	 * @param bytes  encoded logs
+	 * @param length count of bytes to be appended
+	 * @return false, if the appender is already closed
+	 */
+	private boolean append( byte[] bytes, int length ) {
+		lock.lock();
+		try {
+			// a failed roll closes the appender
+			long now = System.currentTimeMillis();
+			if( !closed && now >= nextRoll )
+				roll();
+			if( closed )
+				return false;
+			try {
+				if( length > buffer.remaining() )
+					writeBuffer();
+				if( length > buffer.capacity() )
+					write( ByteBuffer.wrap( bytes, 0, length ) );
+				else
+					buffer.put( bytes, 0, length );
+
+				appended( now );
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Rolls or flushes the file after a line is appended, if necessary
+	 *
+	 * @param now current time (ms)
+	 */
+	private void appended( long now ) {
+		if( maxFileSize > 0 && fileSize + buffer.position() >= maxFileSize )
+			roll();
+		else if( flushInterval <= 0 || now - lastFlush >= flushInterval )
+			flush();
+	}
+
+	/**
+	 * Writes all buffered lines to the file
+	 */
+	@Override
+	public void flush() {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			try {
+				writeBuffer();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+			lastFlush = System.currentTimeMillis();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes all buffered lines and closes the file
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			flush();
+			closed = true;
+			if( flushTask != null )
+				flushTask.cancel( false );
+			try {
+				channel.close();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return path of the file
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Rolls the file: The buffered lines are written, the file is renamed to the first backup
+	 * (see FileBundle.roll) and a new file is opened
+	 * If the file cannot be renamed, the lines are appended to it and the next roll is tried,
+	 * after maxFileSize bytes are written once more or at the next time boundary
+	 */
+	public void roll() {
+		lock.lock();
+		try {
+			if( closed )
+				return;
+			long start = System.nanoTime();
+			try {
+				writeBuffer();
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+			boolean rolled = false;
+			try {
+				channel.close();
+				FileBundle.roll( path, countBackups, compressBackups );
+				rolled = true;
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+			try {
+				open();
+				// not every log retries the roll
+				if( !rolled )
+					fileSize = 0;
+			} catch( IOException e ) {
+				// without a channel, the lines are appended by FileBundle.appendFile
+				e.printStackTrace();
+				closed = true;
+				if( flushTask != null )
+					flushTask.cancel( false );
+			}
+			LoggerMetrics.rolled( System.nanoTime() - start );
+			lastFlush = System.currentTimeMillis();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Opens the file and calculates the next time boundary
+	 *
+	 * @throws IOException if the file cannot be opened
+	 */
+	private void open() throws IOException {
+		channel = FileChannel.open( Paths.get( path ), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND );
+		fileSize = channel.size();
+		LoggerMetrics.fileOpened();
+		if( rollInterval == RollInterval.NONE ) {
+			nextRoll = Long.MAX_VALUE;
+		} else {
+			nextRoll = Instant.now().atZone( ZoneId.systemDefault() )
+					.truncatedTo( rollInterval.unit )
+					.plus( 1, rollInterval.unit )
+					.toInstant().toEpochMilli();
+		}
+	}
+
+	private void flushIfDue() {
+		lock.lock();
+		try {
+			if( buffer.position() > 0 && System.currentTimeMillis() - lastFlush >= flushInterval )
+				flush();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Encodes the chars into the buffer, the buffer is written to the file whenever it is full
+	 *
+	 * @param chars to be encoded
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private void encode( CharBuffer chars ) throws IOException {
+		encoder.reset();
+		CoderResult result;
+		do {
+			result = encoder.encode( chars, buffer, true );
+			if( result.isOverflow() )
+				writeBuffer();
+		} while( result.isOverflow() );
+
+		while( encoder.flush( buffer ).isOverflow() )
+			writeBuffer();
+	}
+
+	/**
+	 * Writes the content of the buffer to the file and clears the buffer
+	 *
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private void writeBuffer() throws IOException {
+		buffer.flip();
+		try {
+			write( buffer );
+		} finally {
+			// unwritten bytes are kept for the next try, the buffer is ready for put again
+			buffer.compact();
+		}
+	}
+
+	/**
+	 * Writes the remaining bytes to the file
+	 *
+	 * @param bytes to be written
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private void write( ByteBuffer bytes ) throws IOException {
+		if( !bytes.hasRemaining() )
+			return;
+		long written = 0;
+		try {
+			while( bytes.hasRemaining() )
+				written += channel.write( bytes );
+		} finally {
+			fileSize += written;
+			LoggerMetrics.bytesWritten( LoggerMetrics.Sink.FILE, written );
+			LoggerMetrics.fileFlushed();
+		}
+	}
+}
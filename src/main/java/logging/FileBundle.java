@@ -1,7 +1,18 @@
 package logging;
 
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author cstockhoff
@@ -108,75 +119,181 @@ public class FileBundle {
 
 	/**
 	 * Create a backup before deleting the file specified by the path
-	 * The name of the backup is filepath + backupNr (see createBackups)
+	 * The name of the backup is filepath + backupNr (see roll)
 	 *
 	 * @param path         to the file that should be deleted
 	 * @param countBackups Indicates the count of backups
 	 */
 	public static void delete( String path, int countBackups ) {
+		delete( path, countBackups, false );
+	}
+
+	/**
+	 * Create a backup before deleting the file specified by the path
+	 * The name of the backup is filepath + backupNr (+ .gz, if compressed, see roll)
+	 * Rolled files, which were not compressed before the JVM ended, become backups first (see recoverRolled)
+	 *
+	 * @param path         to the file that should be deleted
+	 * @param countBackups Indicates the count of backups
+	 * @param compress     true, if the backup should be compressed
+	 */
+	public static void delete( String path, int countBackups, boolean compress ) {
+		try {
+			recoverRolled( path, countBackups, compress );
+		} catch( IOException e ) {
+			e.printStackTrace();
+		}
+
 		File file = new File( path );
 		if( !file.exists() )
 			return;
 
-		if( countBackups > 0 ) {
-			File backupFile = createBackups( path, 1, countBackups );
-			try {
-				copyFile( file, backupFile );
-			} catch( IOException e ) {
-				e.printStackTrace();
-			}
+		try {
+			roll( path, countBackups, compress );
+		} catch( IOException e ) {
+			e.printStackTrace();
 		}
-		file.delete();
 	}
 
 	/**
-	 * Create backupNr-Backups recursively of the File path
-	 * Old Backups will be moved one level down (that means, the backupNr is increased)
+	 * Turns the files path.rolled-*, which were left by a JVM ended before BackupCompressor
+	 * handled them, into backups (oldest first), like roll does with the file itself
+	 * A left temporary file of BackupCompressor is deleted, its content is still in the rolled file
+	 * Must only be called, while no roll of the path is pending (e.g. at startup)
 	 *
-	 * @param path       original filepath
-	 * @param backupNr   current backup-Number
-	 * @param anzBackups max. Backups to be created
-	 * @return Backup-File
+	 * @param path         original filepath
+	 * @param countBackups Indicates the count of backups
+	 * @param compress     true, if the backups should be compressed
+	 * @throws IOException forwarded exception of the file system
 	 */
-	private static File createBackups( String path, int backupNr, int anzBackups ) {
-		File backupFile = new File( path + "." + backupNr );
-		if( backupFile.exists() && backupNr < anzBackups ) {
-			File returnedFile = createBackups( path, backupNr + 1, anzBackups );
-			try {
-				copyFile( backupFile, returnedFile );
-				backupFile.delete();
-				backupFile.createNewFile();
-			} catch( IOException e ) {
-				e.printStackTrace();
+	static void recoverRolled( String path, int countBackups, boolean compress ) throws IOException {
+		Path file = Paths.get( path ).toAbsolutePath();
+		String prefix = file.getFileName() + ".rolled-";
+		List<Path> rolled;
+		try (Stream<Path> files = Files.list( file.getParent() )) {
+			rolled = files.filter( f -> f.getFileName().toString().startsWith( prefix ) )
+					.sorted( Comparator.comparing( FileBundle::lastModified ).thenComparing( Path::toString ) )
+					.collect( Collectors.toList() );
+		}
+		Files.deleteIfExists( Paths.get( path + ".1" + BackupCompressor.SUFFIX + ".tmp" ) );
+
+		for( Path leftover : rolled ) {
+			if( countBackups <= 0 ) {
+				Files.deleteIfExists( leftover );
+			} else if( compress ) {
+				BackupCompressor.submit( path, leftover, countBackups );
+			} else {
+				shiftBackups( path, countBackups );
+				move( leftover, Paths.get( path + ".1" ) );
 			}
-			return backupFile;
+		}
+	}
+
+	private static long lastModified( Path file ) {
+		try {
+			return Files.getLastModifiedTime( file ).toMillis();
+		} catch( IOException e ) {
+			return 0;
+		}
+	}
+
+	/**
+	 * Roll the file specified by the path: Old Backups will be moved one level down
+	 * (path.1 to path.2, ..., path.countBackups is deleted) and the file is renamed to path.1
+	 * Only renames are used, so the cost does not depend on the size of the files
+	 * If countBackups is zero, the file is deleted
+	 *
+	 * @param path         to the file that should be rolled
+	 * @param countBackups Indicates the count of backups
+	 * @throws IOException forwarded exception of the file system
+	 */
+	public static void roll( String path, int countBackups ) throws IOException {
+		roll( path, countBackups, false );
+	}
+
+	/**
+	 * Roll the file specified by the path: Old Backups will be moved one level down
+	 * (path.1 to path.2, ..., path.countBackups is deleted) and the file becomes path.1
+	 * If compress is true, the file is only renamed here, shifting the backups and compressing
+	 * the file to path.1.gz is done on a background thread (see BackupCompressor)
+	 * If countBackups is zero, the file is deleted
+	 *
+	 * @param path         to the file that should be rolled
+	 * @param countBackups Indicates the count of backups
+	 * @param compress     true, if the backup should be compressed
+	 * @throws IOException forwarded exception of the file system
+	 */
+	public static void roll( String path, int countBackups, boolean compress ) throws IOException {
+		Path file = Paths.get( path );
+		if( countBackups <= 0 ) {
+			Files.deleteIfExists( file );
+			return;
+		}
+		if( !Files.exists( file ) )
+			return;
+
+		if( compress ) {
+			Path rolled = Paths.get( path + ".rolled-" + System.nanoTime() );
+			move( file, rolled );
+			BackupCompressor.submit( path, rolled, countBackups );
 		} else {
-			if( backupNr >= anzBackups )
-				backupFile.delete();
-			try {
-				backupFile.createNewFile();
-			} catch( IOException e ) {
-				e.printStackTrace();
+			shiftBackups( path, countBackups );
+			move( file, Paths.get( path + ".1" ) );
+		}
+	}
+
+	/**
+	 * Move the backups of the file one level down (path.1 to path.2, ...)
+	 * path.countBackups is deleted, compressed and uncompressed backups are handled alike
+	 *
+	 * @param path         original filepath
+	 * @param countBackups Indicates the count of backups
+	 * @throws IOException forwarded exception of the file system
+	 */
+	static void shiftBackups( String path, int countBackups ) throws IOException {
+		Files.deleteIfExists( Paths.get( path + "." + countBackups ) );
+		Files.deleteIfExists( Paths.get( path + "." + countBackups + BackupCompressor.SUFFIX ) );
+		for( int backupNr = countBackups - 1; backupNr >= 1; backupNr-- ) {
+			for( String suffix : new String[]{ "", BackupCompressor.SUFFIX } ) {
+				Path backupFile = Paths.get( path + "." + backupNr + suffix );
+				if( Files.exists( backupFile ) )
+					move( backupFile, Paths.get( path + "." + ( backupNr + 1 ) + suffix ) );
 			}
-			return backupFile;
+		}
+	}
+
+	/**
+	 * Renames a file atomically, if the file system supports it
+	 * Otherwise the file is copied (see copyFile) and deleted afterwards
+	 *
+	 * @param source file to be renamed
+	 * @param target new name of the file (will be replaced, if it exists)
+	 * @throws IOException forwarded exception of the file system
+	 */
+	private static void move( Path source, Path target ) throws IOException {
+		try {
+			Files.move( source, target, StandardCopyOption.ATOMIC_MOVE );
+		} catch( AtomicMoveNotSupportedException e ) {
+			copyFile( source.toFile(), target.toFile() );
+			Files.delete( source );
 		}
 	}
 
 	/**
 	 * Simple Copy-File-Method
+	 * The content is transferred by the file system (zero-copy), the output is overwritten
 	 *
 	 * @param input  copy-from
 	 * @param output copy-to
-	 * @throws IOException forwarded exception of FileInput- and FileOutputStream
+	 * @throws IOException forwarded exception of the FileChannels
 	 */
 	private static void copyFile( File input, File output ) throws IOException {
-		BufferedInputStream in = new BufferedInputStream( new FileInputStream( input ) );
-		BufferedOutputStream out = new BufferedOutputStream( new FileOutputStream( output, true ) );
-		int bytes;
-		while( ( bytes = in.read() ) != -1 ) {
-			out.write( bytes );
+		try (FileChannel in = FileChannel.open( input.toPath(), StandardOpenOption.READ );
+			 FileChannel out = FileChannel.open( output.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING )) {
+			long position = 0;
+			long size = in.size();
+			while( position < size )
+				position += in.transferTo( position, size - position, out );
 		}
-		in.close();
-		out.close();
 	}
 }
@@ -0,0 +1,145 @@
+package logging;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Log-Types switched on/off for single classes or packages, overriding the global Log-Types
+ * <p>
+ * Format in Logger.properties: LOG_[LogType].[package or class]=true/false
+ * e.g. LOG_DEBUG.com.example.dao=true enables DEBUG-Logs only for the package com.example.dao
+ * If several rules match a class, the rule with the longest package or class name wins
+ * <p>
+ * The rules of a class are resolved once and cached by a ClassValue, every reload of the
+ * configuration creates new rules (see LoggerConfig), so the cache is invalidated as a whole
+ *
+ * @author cstockhoff
+ */
+final class LevelRules {
+
+	/**
+	 * No rules, only the global Log-Types are used
+	 */
+	static final LevelRules NONE = new LevelRules( new ArrayList<>() );
+
+	/**
+	 * Rule for one Log-Type of a class or package
+	 */
+	private static final class Rule {
+		private final String prefix;
+		private final int bit;
+		private final boolean enabled;
+
+		private Rule( String prefix, int bit, boolean enabled ) {
+			this.prefix = prefix;
+			this.bit = bit;
+			this.enabled = enabled;
+		}
+
+		private boolean matches( String className ) {
+			return className.startsWith( prefix )
+					&& ( className.length() == prefix.length()
+					|| className.charAt( prefix.length() ) == '.'
+					|| className.charAt( prefix.length() ) == '$' );
+		}
+	}
+
+	/**
+	 * Resolved rules of one class: Log-Types, which are set or cleared in the global Log-Types
+	 */
+	static final class Mask {
+		private final int set;
+		private final int cleared;
+
+		private Mask( int set, int cleared ) {
+			this.set = set;
+			this.cleared = cleared;
+		}
+
+		/**
+		 * @param logTypes global Log-Types (see Logger.enabledLogTypes)
+		 * @return Log-Types of the class
+		 */
+		int apply( int logTypes ) {
+			return ( logTypes | set ) & ~cleared;
+		}
+	}
+
+	/**
+	 * Rules sorted by the length of their prefix, so longer prefixes override shorter ones
+	 */
+	private final Rule[] rules;
+
+	/**
+	 * Log-Types, which are affected by any rule
+	 */
+	private final int affected;
+
+	private final ClassValue<Mask> masks = new ClassValue<>() {
+		@Override
+		protected Mask computeValue( Class<?> type ) {
+			return resolve( type.getName() );
+		}
+	};
+
+	private LevelRules( List<Rule> rules ) {
+		rules.sort( Comparator.comparingInt( rule -> rule.prefix.length() ) );
+		this.rules = rules.toArray( new Rule[ 0 ] );
+		int affected = 0;
+		for( Rule rule : rules )
+			affected |= rule.bit;
+		this.affected = affected;
+	}
+
+	/**
+	 * Reads all rules (LOG_[LogType].[package or class]) of the ResBundle
+	 *
+	 * @param res Logger.properties
+	 * @return rules, NONE if the ResBundle contains no rule
+	 */
+	static LevelRules read( ResBundle res ) {
+		List<Rule> rules = new ArrayList<>();
+		for( String key : res.getKeys() ) {
+			for( Logger.LogType logType : Logger.LogType.values() ) {
+				String type = "LOG_" + logType.name() + ".";
+				if( key.startsWith( type ) && key.length() > type.length() )
+					rules.add( new Rule( key.substring( type.length() ), 1 << logType.ordinal(), res.getBoolean( key ) ) );
+			}
+		}
+		return rules.isEmpty() ? NONE : new LevelRules( rules );
+	}
+
+	/**
+	 * @param bit Log-Type as bit (see Logger.enabledLogTypes)
+	 * @return true, if any class or package has a rule for the Log-Type
+	 */
+	boolean affects( int bit ) {
+		return ( affected & bit ) != 0;
+	}
+
+	/**
+	 * @param clazz logging class
+	 * @return cached rules of the class
+	 */
+	Mask of( Class<?> clazz ) {
+		return masks.get( clazz );
+	}
+
+	private Mask resolve( String className ) {
+		int set = 0;
+		int cleared = 0;
+		for( Rule rule : rules ) {
+			if( rule.matches( className ) ) {
+				if( rule.enabled ) {
+					set |= rule.bit;
+					cleared &= ~rule.bit;
+				} else {
+					cleared |= rule.bit;
+					set &= ~rule.bit;
+				}
+			}
+		}
+		return new Mask( set, cleared );
+	}
+}
@@ -0,0 +1,355 @@
+package logging;
+
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Logs of one Log-Type, which are written together (see Logger.batch)
+ * <p>
+ * The logs are collected until the batch is closed, then they are formatted in one pass
+ * and handed to every output as one piece (see Appender.append( LogBatch )),
+ * so the PrintStream and the Log-File are locked and written once per batch instead of once per log
+ * If the contents reach the buffer size of the Log-File (see Logger.batchFlushSize), the collected logs
+ * are written at once and the batch collects the next logs, so a batch around a large loop stays bounded
+ * <p>
+ * The Log-Type and the location are checked/resolved once, when the batch is created
+ * Every log keeps its own creation time. A batch is used by one thread and is not reused after close
+ * <pre>
+ * try( LogBatch batch = Logger.batch( Logger.LogType.INFO ) ) {
+ *     for( Row row : rows )
+ *         batch.add( "imported {0}", row.getId() );
+ * }
+ * </pre>
+ *
+ * @author cstockhoff
+ */
+@LoggingAnnotation.SkipLogging
+public final class LogBatch implements AutoCloseable {
+
+	private final Logger.LogType logType;
+
+	/**
+	 * Location of the caller, null if the Log-Type is disabled
+	 */
+	private final String location;
+
+	/**
+	 * Contents of all logs, ends[ i ] is the end of the content of log i
+	 */
+	private final StringBuilder contents = new StringBuilder( 1024 );
+	private int[] ends = new int[ 16 ];
+	private long[] times = new long[ 16 ];
+	private int count;
+	private boolean closed;
+
+	/**
+	 * Size (chars) of the contents, at which the collected logs are written
+	 */
+	private final int flushSize;
+
+	/**
+	 * Formatted logs, each followed by a line separator, lineEnds[ i ] is the end of log i
+	 */
+	private StringBuilder text;
+	private int[] lineEnds;
+	private byte[] bytes;
+
+	/**
+	 * @param logType  Log-Level of all logs
+	 * @param location location of the caller, null if the Log-Type is disabled
+	 */
+	LogBatch( Logger.LogType logType, String location ) {
+		this.logType = logType;
+		this.location = location;
+		this.flushSize = Logger.batchFlushSize();
+	}
+
+	/**
+	 * Add a text
+	 *
+	 * @param content Individual text/string
+	 * @return this batch
+	 */
+	public LogBatch add( Object content ) {
+		if( accept() )
+			record( contents.append( content ) );
+		return this;
+	}
+
+	/**
+	 * Add a text without converting it to a String
+	 *
+	 * @param content Individual text
+	 * @return this batch
+	 */
+	public LogBatch add( CharSequence content ) {
+		if( accept() )
+			record( contents.append( content ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} of the pattern is replaced by arg
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, Object arg ) {
+		if( accept() )
+			record( contents.append( LogFormatter.substitute( pattern, arg, null, 1 ) ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, Object arg0, Object arg1 ) {
+		if( accept() )
+			record( contents.append( LogFormatter.substitute( pattern, arg0, arg1, 2 ) ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} - {args.length - 1} of the pattern are replaced by args
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, Object... args ) {
+		if( accept() )
+			record( contents.append( LogFormatter.substitute( pattern, args ) ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} of the pattern is replaced by arg without boxing it
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, long arg ) {
+		if( accept() )
+			record( LogFormatter.substitute( contents, pattern, arg, 0, LogFormatter.LONG ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} of the pattern is replaced by arg without boxing it
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, double arg ) {
+		if( accept() )
+			record( LogFormatter.substitute( contents, pattern, 0, arg, LogFormatter.DOUBLE ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} of the pattern is replaced by arg without boxing it
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, float arg ) {
+		if( accept() )
+			record( LogFormatter.substitute( contents, pattern, 0, arg, LogFormatter.FLOAT ) );
+		return this;
+	}
+
+	/**
+	 * Add a text, {0} of the pattern is replaced by arg without boxing it
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 * @return this batch
+	 */
+	public LogBatch add( String pattern, char arg ) {
+		if( accept() )
+			record( LogFormatter.substitute( contents, pattern, arg, 0, LogFormatter.CHAR ) );
+		return this;
+	}
+
+	/**
+	 * Writes all added logs at once (see Logger.write( LogBatch ))
+	 * Nothing is written, if the batch is empty or the Log-Type is disabled
+	 */
+	@Override
+	public void close() {
+		if( closed )
+			return;
+		closed = true;
+		if( count > 0 )
+			Logger.write( this );
+	}
+
+	/**
+	 * @return Log-Level of all logs
+	 */
+	public Logger.LogType getLogType() {
+		return logType;
+	}
+
+	/**
+	 * @return location of the caller (see Logger.LocationLevel)
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * @return count of added logs, which are not written yet
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * @param index of the log
+	 * @return creation time of the log (ms)
+	 */
+	public long getTime( int index ) {
+		return times[ index ];
+	}
+
+	/**
+	 * @param index of the log
+	 * @return individual content of the log
+	 */
+	public String getContent( int index ) {
+		return contents.substring( start( index ), ends[ index ] );
+	}
+
+	/**
+	 * @return all formatted logs, each followed by a line separator
+	 */
+	public CharSequence getText() {
+		render();
+		return text;
+	}
+
+	/**
+	 * @return formatted logs (without line separator)
+	 */
+	public ArrayList<String> getLines() {
+		render();
+		ArrayList<String> lines = new ArrayList<>( count );
+		for( int i = 0; i < count; i++ )
+			lines.add( text.substring( i == 0 ? 0 : lineEnds[ i - 1 ], lineEnds[ i ] - 1 ) );
+		return lines;
+	}
+
+	/**
+	 * Returns all encoded logs (default charset, each followed by a line separator)
+	 * from index 0 to getLength()
+	 *
+	 * @return bytes of the encoded logs
+	 */
+	public byte[] getBytes() {
+		encode();
+		return bytes;
+	}
+
+	/**
+	 * @return count of bytes of the encoded logs (see getBytes)
+	 */
+	public int getLength() {
+		encode();
+		return bytes.length;
+	}
+
+	/**
+	 * Hands every log as its own LogLine to the action (for appenders, which need single logs)
+	 * The LogLine is reused after every call (see Appender.append( LogLine ))
+	 *
+	 * @param action called for every log
+	 */
+	public void forEachLine( Consumer<LogLine> action ) {
+		for( int i = 0; i < count; i++ ) {
+			LogLine line = LogLine.acquire( logType, times[ i ], location, CharBuffer.wrap( contents, start( i ), ends[ i ] ) );
+			try {
+				action.accept( line );
+			} finally {
+				line.release();
+			}
+		}
+	}
+
+	/**
+	 * Checks, if a log can be added
+	 *
+	 * @return true, if the Log-Type is enabled
+	 */
+	private boolean accept() {
+		if( closed )
+			throw new IllegalStateException( "LogBatch is already closed" );
+		return location != null;
+	}
+
+	/**
+	 * Ends the content of a log, which is appended to the contents
+	 */
+	private void record( StringBuilder appended ) {
+		if( count == ends.length ) {
+			ends = Arrays.copyOf( ends, count * 2 );
+			times = Arrays.copyOf( times, count * 2 );
+		}
+		ends[ count ] = appended.length();
+		times[ count ] = System.currentTimeMillis();
+		count++;
+		if( appended.length() >= flushSize )
+			writeCollected();
+	}
+
+	/**
+	 * Writes the collected logs and starts collecting the next logs
+	 */
+	private void writeCollected() {
+		Logger.write( this );
+		contents.setLength( 0 );
+		count = 0;
+		text = null;
+		lineEnds = null;
+		bytes = null;
+	}
+
+	private int start( int index ) {
+		return index == 0 ? 0 : ends[ index - 1 ];
+	}
+
+	/**
+	 * Formats all logs in one pass
+	 */
+	private void render() {
+		if( text != null )
+			return;
+
+		long start = LoggerMetrics.start();
+		text = new StringBuilder( contents.length() + count * 48 );
+		lineEnds = new int[ count ];
+		for( int i = 0; i < count; i++ ) {
+			Logger.format( text, logType, times[ i ], location, CharBuffer.wrap( contents, start( i ), ends[ i ] ) );
+			text.append( '\n' );
+			lineEnds[ i ] = text.length();
+		}
+		LoggerMetrics.formatted( start );
+	}
+
+	private void encode() {
+		if( bytes == null )
+			bytes = getText().toString().getBytes( Charset.defaultCharset() );
+	}
+}
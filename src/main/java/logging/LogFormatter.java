@@ -0,0 +1,256 @@
+package logging;
+
+import java.util.ArrayList;
+
+/**
+ * Formatter of the Log-String
+ * The template is compiled once into literal segments and placeholders
+ * {0} : Log-Indicator
+ * {1} : non or current Date
+ * {2} : Location
+ * {3} : individual content
+ * <p>
+ * Every log is rendered into a reusable StringBuilder of the calling thread (see LogLine),
+ * so no intermediate Strings are created and no shared state has to be locked
+ * <p>
+ * Patterns with a primitive argument are rendered into a reusable StringBuilder of the
+ * calling thread (see borrow), so they allocate neither a boxed argument nor a String
+ * (StringBuilder.append of a double or float still allocates on some JDKs)
+ *
+ * @author cstockhoff
+ */
+final class LogFormatter {
+
+	private static final int INDICATOR = 0;
+	private static final int DATE = 1;
+	private static final int LOCATION = 2;
+	private static final int CONTENT = 3;
+
+	/**
+	 * Kinds of a primitive argument (see substitute)
+	 */
+	static final int LONG = 0;
+	static final int DOUBLE = 1;
+	static final int FLOAT = 2;
+	static final int CHAR = 3;
+
+	/**
+	 * literals[ i ] is rendered before placeholders[ i ], the last literal ends the Log-String
+	 */
+	private final String[] literals;
+	private final int[] placeholders;
+
+	/**
+	 * Reusable content of the patterns with a primitive argument, one per thread
+	 */
+	private static final class Content {
+		private final StringBuilder builder = new StringBuilder( 128 );
+		private boolean inUse;
+	}
+
+	private static final ThreadLocal<Content> contents = ThreadLocal.withInitial( Content::new );
+
+	/**
+	 * Compiles the template
+	 *
+	 * @param template Log-String with the placeholders {0} - {3}
+	 */
+	LogFormatter( String template ) {
+		ArrayList<String> literalList = new ArrayList<>();
+		ArrayList<Integer> placeholderList = new ArrayList<>();
+
+		int start = 0;
+		int i = 0;
+		while( i <= template.length() - 3 ) {
+			char digit = template.charAt( i + 1 );
+			if( template.charAt( i ) == '{' && digit >= '0' && digit <= '3' && template.charAt( i + 2 ) == '}' ) {
+				literalList.add( template.substring( start, i ) );
+				placeholderList.add( digit - '0' );
+				i += 3;
+				start = i;
+			} else {
+				i++;
+			}
+		}
+		literalList.add( template.substring( start ) );
+
+		literals = literalList.toArray( new String[ 0 ] );
+		placeholders = placeholderList.stream().mapToInt( Integer::intValue ).toArray();
+	}
+
+	/**
+	 * Renders a log into the builder
+	 *
+	 * @param builder   to which the log is appended
+	 * @param indicator Log-Indicator
+	 * @param date      formatter of the Date, null if no Date should be rendered
+	 * @param time      creation time of the log (ms)
+	 * @param location  location of the caller
+	 * @param content   individual content
+	 */
+	void format( StringBuilder builder, String indicator, TimestampFormatter date, long time, CharSequence location, CharSequence content ) {
+		for( int i = 0; i < placeholders.length; i++ ) {
+			builder.append( literals[ i ] );
+			switch( placeholders[ i ] ) {
+				case INDICATOR:
+					builder.append( indicator );
+					break;
+				case DATE:
+					if( date != null ) {
+						builder.append( "[ " );
+						date.format( time, builder );
+						builder.append( " ]" );
+					}
+					break;
+				case LOCATION:
+					builder.append( location );
+					break;
+				case CONTENT:
+					builder.append( content );
+					break;
+			}
+		}
+		builder.append( literals[ literals.length - 1 ] );
+	}
+
+	/**
+	 * Replaces {0} and {1} of the pattern by the arguments (like ResBundle.getMessage)
+	 * Null-Arguments are replaced by an empty string, unknown placeholders are kept
+	 *
+	 * @param pattern text with the placeholders {0} - {count - 1}
+	 * @param arg0    replacement of {0}
+	 * @param arg1    replacement of {1}
+	 * @param count   count of arguments (1 or 2)
+	 * @return text with replaced placeholders
+	 */
+	static String substitute( String pattern, Object arg0, Object arg1, int count ) {
+		return substitute( pattern, arg0, arg1, null, count );
+	}
+
+	/**
+	 * Replaces {0} - {args.length - 1} of the pattern by the arguments (like ResBundle.getMessage)
+	 * Null-Arguments are replaced by an empty string, unknown placeholders are kept
+	 *
+	 * @param pattern text with the placeholders {0} - {args.length - 1}
+	 * @param args    replacements
+	 * @return text with replaced placeholders
+	 */
+	static String substitute( String pattern, Object[] args ) {
+		if( args == null )
+			return pattern;
+		return substitute( pattern, null, null, args, args.length );
+	}
+
+	private static String substitute( String pattern, Object arg0, Object arg1, Object[] args, int count ) {
+		if( pattern == null )
+			return "null";
+
+		StringBuilder builder = null;
+		int start = 0;
+		int open = pattern.indexOf( '{' );
+		while( open >= 0 ) {
+			int index = index( pattern, open );
+			if( index >= 0 && index < count ) {
+				if( builder == null )
+					builder = new StringBuilder( pattern.length() + 16 * count );
+				builder.append( pattern, start, open );
+				Object arg = args != null ? args[ index ] : index == 0 ? arg0 : arg1;
+				if( arg != null )
+					builder.append( arg );
+				start = pattern.indexOf( '}', open ) + 1;
+			}
+			open = pattern.indexOf( '{', open + 1 );
+		}
+
+		if( builder == null )
+			return pattern;
+		return builder.append( pattern, start, pattern.length() ).toString();
+	}
+
+	/**
+	 * Replaces {0} of the pattern by the primitive argument without boxing it
+	 * Only the argument of the given kind is used, the other one is ignored
+	 *
+	 * @param builder  to which the text is appended (see borrow)
+	 * @param pattern  text with the placeholder {0}
+	 * @param integral replacement of {0} for the kinds LONG and CHAR
+	 * @param floating replacement of {0} for the kinds DOUBLE and FLOAT
+	 * @param kind     kind of the argument (LONG, DOUBLE, FLOAT or CHAR)
+	 * @return the builder
+	 */
+	static StringBuilder substitute( StringBuilder builder, String pattern, long integral, double floating, int kind ) {
+		if( pattern == null )
+			return builder.append( "null" );
+
+		int start = 0;
+		int open = pattern.indexOf( '{' );
+		while( open >= 0 ) {
+			if( index( pattern, open ) == 0 ) {
+				builder.append( pattern, start, open );
+				switch( kind ) {
+					case LONG:
+						builder.append( integral );
+						break;
+					case DOUBLE:
+						builder.append( floating );
+						break;
+					case FLOAT:
+						builder.append( (float) floating );
+						break;
+					case CHAR:
+						builder.append( (char) integral );
+						break;
+				}
+				start = pattern.indexOf( '}', open ) + 1;
+			}
+			open = pattern.indexOf( '{', open + 1 );
+		}
+		return builder.append( pattern, start, pattern.length() );
+	}
+
+	/**
+	 * Returns the empty content of the calling thread
+	 * If the content is in use (e.g. an appender logs itself), a new StringBuilder is returned
+	 *
+	 * @return StringBuilder, which has to be given back after the log is written (see giveBack)
+	 */
+	static StringBuilder borrow() {
+		Content content = contents.get();
+		if( content.inUse )
+			return new StringBuilder( 128 );
+		content.inUse = true;
+		return content.builder;
+	}
+
+	/**
+	 * Gives the content back after the log is written
+	 *
+	 * @param builder borrowed content (see borrow)
+	 */
+	static void giveBack( StringBuilder builder ) {
+		Content content = contents.get();
+		if( content.builder != builder )
+			return;
+		builder.setLength( 0 );
+		if( builder.capacity() > LogLine.MAX_REUSED_CAPACITY )
+			contents.remove();
+		else
+			content.inUse = false;
+	}
+
+	/**
+	 * @param pattern text with placeholders
+	 * @param open    index of a '{'
+	 * @return index of the placeholder {0} - {999} starting at open, -1 if there is no placeholder
+	 */
+	private static int index( String pattern, int open ) {
+		int close = open + 1;
+		int index = 0;
+		while( close < pattern.length() && close - open <= 3 && pattern.charAt( close ) >= '0' && pattern.charAt( close ) <= '9' )
+			index = index * 10 + pattern.charAt( close++ ) - '0';
+
+		if( close > open + 1 && close < pattern.length() && pattern.charAt( close ) == '}' )
+			return index;
+		return -1;
+	}
+}
@@ -0,0 +1,261 @@
+package logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Log, which is handed to every Appender
+ * The text is formatted (see Logger.defaultString) and encoded (default charset, with line separator)
+ * only once, when an appender needs it for the first time, all other appenders share it
+ * Appenders, which only need the raw parts (e.g. BinaryAppender), do not pay for the formatting
+ * <p>
+ * Every platform thread reuses its own LogLine, virtual threads borrow a LogLine of a shared pool
+ * (there may be millions of them, so they must not keep an own LogLine). Appenders must not keep a reference to it
+ *
+ * @author cstockhoff
+ */
+public final class LogLine {
+
+	/**
+	 * Buffers grown above this capacity are not reused
+	 */
+	static final int MAX_REUSED_CAPACITY = 16 * 1024;
+
+	private static final ThreadLocal<LogLine> lines = ThreadLocal.withInitial( () -> new LogLine( false ) );
+
+	/**
+	 * LogLines of the virtual threads, about as many as threads are logging at the same time
+	 */
+	private static final AtomicReferenceArray<LogLine> pool =
+			new AtomicReferenceArray<>( Integer.highestOneBit( Runtime.getRuntime().availableProcessors() ) * 4 );
+
+	/**
+	 * Thread.isVirtual, null if the JVM has no virtual threads
+	 */
+	private static final MethodHandle isVirtual = findIsVirtual();
+
+	private final StringBuilder text = new StringBuilder( 256 );
+
+	/**
+	 * Copy of the text, which is encoded (a CharBuffer wrapping the text would be created per log)
+	 */
+	private char[] chars = new char[ 256 ];
+	private CharBuffer charBuffer = CharBuffer.wrap( chars );
+	private final CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+			.onMalformedInput( CodingErrorAction.REPLACE )
+			.onUnmappableCharacter( CodingErrorAction.REPLACE );
+	private final byte[] lineSeparator = "\n".getBytes( encoder.charset() );
+	private ByteBuffer bytes = ByteBuffer.allocate( 512 );
+
+	private Logger.LogType logType;
+	private long time;
+	private String location;
+	private CharSequence content;
+	private String contentString;
+	private boolean rendered;
+	private boolean encoded;
+	private boolean inUse;
+
+	/**
+	 * true, if the LogLine belongs to the pool of the virtual threads
+	 */
+	private final boolean pooled;
+
+	private LogLine( boolean pooled ) {
+		this.pooled = pooled;
+	}
+
+	/**
+	 * Returns the LogLine of the calling thread (a LogLine of the pool for virtual threads)
+	 * If the LogLine is in use (e.g. an appender logs itself), a new LogLine is returned
+	 *
+	 * @param logType  Log-Level of the log
+	 * @param time     creation time of the log (ms)
+	 * @param location location of the caller
+	 * @param content  individual content
+	 * @return LogLine, which has to be released after the log is written
+	 */
+	static LogLine acquire( Logger.LogType logType, long time, String location, CharSequence content ) {
+		LogLine line;
+		if( isVirtual( Thread.currentThread() ) ) {
+			line = borrow();
+		} else {
+			line = lines.get();
+			if( line.inUse )
+				line = new LogLine( false );
+		}
+
+		line.inUse = true;
+		line.logType = logType;
+		line.time = time;
+		line.location = location;
+		line.content = content;
+		line.contentString = null;
+		line.rendered = false;
+		line.encoded = false;
+		return line;
+	}
+
+	/**
+	 * Releases the LogLine after the log is written
+	 */
+	void release() {
+		inUse = false;
+		location = null;
+		content = null;
+		contentString = null;
+		boolean reusable = text.capacity() <= MAX_REUSED_CAPACITY && bytes.capacity() <= MAX_REUSED_CAPACITY
+				&& chars.length <= MAX_REUSED_CAPACITY;
+		if( pooled ) {
+			if( reusable )
+				giveBack( this );
+		} else if( !reusable && lines.get() == this ) {
+			lines.remove();
+		}
+	}
+
+	/**
+	 * Takes a LogLine of the pool, creates a new one if the pool is empty
+	 */
+	private static LogLine borrow() {
+		int start = (int) Thread.currentThread().getId();
+		for( int i = 0; i < pool.length(); i++ ) {
+			LogLine line = pool.getAndSet( ( start + i ) & ( pool.length() - 1 ), null );
+			if( line != null )
+				return line;
+		}
+		return new LogLine( true );
+	}
+
+	/**
+	 * Puts the LogLine into a free slot of the pool, drops it if the pool is full
+	 */
+	private static void giveBack( LogLine line ) {
+		int start = (int) Thread.currentThread().getId();
+		for( int i = 0; i < pool.length(); i++ )
+			if( pool.compareAndSet( ( start + i ) & ( pool.length() - 1 ), null, line ) )
+				return;
+	}
+
+	private static boolean isVirtual( Thread thread ) {
+		if( isVirtual == null )
+			return false;
+		try {
+			return (boolean) isVirtual.invokeExact( thread );
+		} catch( Throwable e ) {
+			return false;
+		}
+	}
+
+	private static MethodHandle findIsVirtual() {
+		try {
+			return MethodHandles.publicLookup().findVirtual( Thread.class, "isVirtual", MethodType.methodType( boolean.class ) );
+		} catch( NoSuchMethodException | IllegalAccessException e ) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return Log-Level of the log
+	 */
+	public Logger.LogType getLogType() {
+		return logType;
+	}
+
+	/**
+	 * @return creation time of the log (ms)
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * @return location of the caller (see Logger.LocationLevel)
+	 */
+	public String getLocation() {
+		return location;
+	}
+
+	/**
+	 * The content is converted to a String on the first call, if it was logged as
+	 * another CharSequence (e.g. Logger.info( CharSequence ))
+	 *
+	 * @return individual content of the log
+	 */
+	public String getContent() {
+		if( contentString == null && content != null )
+			contentString = content.toString();
+		return contentString;
+	}
+
+	/**
+	 * @return formatted log (without line separator)
+	 */
+	public CharSequence getText() {
+		if( !rendered ) {
+			long start = LoggerMetrics.start();
+			text.setLength( 0 );
+			Logger.format( text, logType, time, location, content );
+			LoggerMetrics.formatted( start );
+			rendered = true;
+		}
+		return text;
+	}
+
+	/**
+	 * Returns the encoded log (with line separator) from index 0 to getLength()
+	 *
+	 * @return bytes of the encoded log
+	 */
+	public byte[] getBytes() {
+		encode();
+		return bytes.array();
+	}
+
+	/**
+	 * @return count of bytes of the encoded log (see getBytes)
+	 */
+	public int getLength() {
+		encode();
+		return bytes.position();
+	}
+
+	private void encode() {
+		if( encoded )
+			return;
+
+		getText();
+		int length = text.length();
+		if( chars.length < length ) {
+			chars = new char[ Math.max( length, chars.length * 2 ) ];
+			charBuffer = CharBuffer.wrap( chars );
+		}
+		text.getChars( 0, length, chars, 0 );
+		charBuffer.clear().limit( length );
+
+		bytes.clear();
+		encoder.reset();
+		while( encoder.encode( charBuffer, bytes, true ).isOverflow() )
+			grow();
+		while( encoder.flush( bytes ).isOverflow() )
+			grow();
+		if( bytes.remaining() < lineSeparator.length )
+			grow();
+		bytes.put( lineSeparator );
+		encoded = true;
+	}
+
+	private void grow() {
+		ByteBuffer larger = ByteBuffer.allocate( bytes.capacity() * 2 );
+		bytes.flip();
+		larger.put( bytes );
+		bytes = larger;
+	}
+}
@@ -1,10 +1,12 @@
 package logging;
 
+import java.io.IOException;
 import java.io.PrintStream;
-import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.Date;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 /**
  * @author cstockhoff
@@ -22,6 +24,7 @@ public class Logger {
 	 * METHODNAME_LINENUMBER: [ MethodName - LineNumber ]
 	 * METHODNAME: [ MethodName ]
 	 * NONE
+	 * CLASSNAME: [ ClassName ] (NamedLogger does not need to analyze the stack for it)
 	 * <p>
 	 * see locationLevel-Attribute
 	 */
@@ -32,7 +35,8 @@ public class Logger {
 		CLASSNAME_LINENUMBER, // DEFAULT
 		METHODNAME_LINENUMBER,
 		METHODNAME,
-		NONE
+		NONE,
+		CLASSNAME // appended, so the ordinals of the other levels are unchanged
 	}
 
 	/**
@@ -48,7 +52,14 @@ public class Logger {
 		SYSTEM
 	}
 
-	public static final LocationLevel locationLevel = LocationLevel.CLASSNAME_LINENUMBER;
+	/**
+	 * Location of the caller, which is logged (see LocationLevel)
+	 * (default: CLASSNAME_LINENUMBER)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	public static volatile LocationLevel locationLevel = LocationLevel.CLASSNAME_LINENUMBER;
 
 	/**
 	 * Value that indicates how many Log-File-Backups should be created
@@ -64,7 +75,7 @@ public class Logger {
 	 * Name/Path of the Log-File (will be created if it does not exist)
 	 * If LOG_TO_FILE is true, the logs will be written to this file
 	 */
-	private static String logFile = "log.txt";
+	private static volatile String logFile = "log.txt";
 
 	/**
 	 * Choose, wow many Elements of the StackTrace should be printed, if an error is logged
@@ -73,85 +84,241 @@ public class Logger {
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
 	 */
-	public static int errorLogLevel = 20;
+	public static volatile int errorLogLevel = 20;
 
 	/**
-	 * Enable/Disable all INFO-Logs
+	 * Time (s), in which identical errors (same throw site, see errorLogLevel, same type and message)
+	 * are suppressed after an error is logged (0: every error is logged)
+	 * The count of the suppressed errors is logged with the next identical error,
+	 * at the end of the interval or at shutdown
+	 * (default: 0)
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
 	 */
-	public static boolean LOG_INFO = true;
+	public static volatile int errorSuppressInterval = 0;
+
+	/**
+	 * Enabled LogTypes as bitmask, the bit of a LogType is 1 << LogType.ordinal()
+	 * (default: all LogTypes are enabled)
+	 * <p>
+	 * Can be individually switched on/off (see enable, disable) and checked by the guard methods
+	 * (see isEnabled, isInfoEnabled, ...), a disabled LogType costs one volatile load and a branch
+	 * <p>
+	 * If Logger.properties exists, the LogTypes will be overwritten (LOG_INFO, LOG_DEBUG, ...), but
+	 * only if the file contains a value for the LogType
+	 */
+	private static final AtomicInteger enabledLogTypes = new AtomicInteger( ( 1 << LogType.values().length ) - 1 );
+
+	/**
+	 * Log-Types of single classes or packages, which override enabledLogTypes (see LevelRules)
+	 * Format: LOG_[LogType].[package or class]=true/false, e.g. LOG_DEBUG.com.example.dao=true
+	 * <p>
+	 * Only a Log-Type, which has a rule, needs the class of the caller, its rules are cached per class
+	 */
+	private static volatile LevelRules levelRules = LevelRules.NONE;
+
+	static final int INFO_BIT = 1 << LogType.INFO.ordinal();
+	static final int MESSAGE_BIT = 1 << LogType.MESSAGE.ordinal();
+	static final int DEBUG_BIT = 1 << LogType.DEBUG.ordinal();
+	static final int ERROR_BIT = 1 << LogType.ERROR.ordinal();
+	static final int PRINT_BIT = 1 << LogType.PRINT.ordinal();
+	static final int SYSTEM_BIT = 1 << LogType.SYSTEM.ordinal();
 
 	/**
-	 * Enable/Disable all PRINT-Logs
+	 * Enable/Disable log to the individual chosen PrintStream (see attribute 'out')
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: true)
 	 */
-	public static boolean LOG_PRINT = true;
+	public static volatile boolean LOG_TO_PRINTSTREAM = true;
 
 	/**
-	 * Enable/Disable all MESSAGE-Logs
+	 * Enable/Disable log to the individual chosen file (see attribute 'logFile')
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: false)
 	 */
-	public static boolean LOG_MESSAGE = true;
+	public static volatile boolean LOG_TO_FILE = false;
 
 	/**
-	 * Enable/Disable all SYSTEM-Logs
+	 * Enable/Disable logging the date
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: false)
 	 */
-	public static boolean LOG_SYSTEM = true;
+	public static volatile boolean LOG_DATE = false;
 
 	/**
-	 * Enable/Disable all ERROR-Logs
+	 * Pattern of the logged Date, if LOG_DATE is true (see TimestampFormatter)
+	 * DEFAULT: Layout of java.util.Date.toString
+	 * ISO: ISO-8601 with milliseconds and offset
+	 * EPOCH: Milliseconds since the epoch
+	 * Every other value is used as pattern of a java.time.format.DateTimeFormatter
+	 * (default: DEFAULT)
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
 	 */
-	public static boolean LOG_ERROR = true;
+	private static volatile TimestampFormatter logDatePattern = new TimestampFormatter( TimestampFormatter.DEFAULT );
 
 	/**
-	 * Enable/Disable all DEBUG-Logs
+	 * Enable/Disable the asynchronous Log-Mode (see AsyncLogger)
+	 * If true, callers only publish their events into a Ring-Buffer and
+	 * a dedicated Consumer-Thread writes them to the PrintStream and/or the Log-File
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: false)
 	 */
-	public static boolean LOG_DEBUG = true;
+	private static boolean LOG_ASYNC = false;
 
 	/**
-	 * Enable/Disable log to the individual chosen PrintStream (see attribute 'out')
+	 * Count of preallocated events in the Ring-Buffer of the asynchronous Log-Mode
+	 * (default: 1024)
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
+	 */
+	private static int asyncBufferSize = 1024;
+
+	/**
+	 * Behaviour of the callers, if the Ring-Buffer of the asynchronous Log-Mode is full
+	 * (default: WAIT)
 	 * <p>
-	 * (default: true)
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
 	 */
-	public static boolean LOG_TO_PRINTSTREAM = true;
+	private static AsyncLogger.FullPolicy asyncFullPolicy = AsyncLogger.FullPolicy.WAIT;
 
 	/**
-	 * Enable/Disable log to the individual chosen file (see attribute 'logFile')
+	 * Size of the buffer (bytes) of the Log-File, which is written at once
+	 * (default: 8192)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static int fileBufferSize = 8192;
+
+	/**
+	 * Max. time (ms) a log stays in the buffer of the Log-File (0: write every log immediately)
+	 * (default: 1000)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static int fileFlushInterval = 1000;
+
+	/**
+	 * Max. size (KB) of the Log-File, before it is rolled at runtime (0: no size-based rolling)
+	 * The rolled file becomes the first backup, see countLogBackups
+	 * (default: 0)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static int maxLogFileSize = 0;
+
+	/**
+	 * Time boundary, at which the Log-File is rolled at runtime
+	 * The rolled file becomes the first backup, see countLogBackups
+	 * (default: NONE)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static FileAppender.RollInterval logRollInterval = FileAppender.RollInterval.NONE;
+
+	/**
+	 * Enable/Disable compression of the Log-File-Backups (log.txt.1.gz, ...)
+	 * The backups are compressed on a background thread, see BackupCompressor
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
 	 * <p>
 	 * (default: false)
 	 */
-	public static boolean LOG_TO_FILE = false;
+	private static boolean LOG_COMPRESS_BACKUPS = false;
 
 	/**
-	 * Enable/Disable logging the date
+	 * Enable/Disable writing the Log-File through memory-mapped regions (see MappedFileAppender)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: false)
+	 */
+	private static boolean LOG_FILE_MAPPED = false;
+
+	/**
+	 * Size (MB) of a memory-mapped region of the Log-File, if LOG_FILE_MAPPED is true
+	 * The Log-File is extended by this size
+	 * (default: 64)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static int mappedRegionSize = 64;
+
+	/**
+	 * Enable/Disable log to the binary file (see attribute 'binaryLogFile' and BinaryAppender)
+	 * The file can be rendered to text by BinaryLogDecoder
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: false)
+	 */
+	private static boolean LOG_TO_BINARY_FILE = false;
+
+	/**
+	 * Name/Path of the binary Log-File (will be created if it does not exist)
+	 * If LOG_TO_BINARY_FILE is true, the logs will be written to this file
+	 * The file is rolled like the Log-File by maxLogFileSize, but not by logRollInterval
+	 */
+	private static String binaryLogFile = "log.bin";
+
+	/**
+	 * Time (ms) between two checks, if Logger.properties has changed (0: no reload at runtime)
+	 * A changed file is reloaded (see reload)
+	 * (default: 0)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static int configReloadInterval = 0;
+
+	/**
+	 * Enable/Disable registering the LoggerMetrics as MBean (see LoggerMetrics.OBJECT_NAME)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 * <p>
+	 * (default: false)
+	 */
+	private static boolean LOG_JMX = false;
+
+	/**
+	 * Enable/Disable measuring the latency of formatting and writing every log (see LoggerMetrics)
 	 * <p>
 	 * If Logger.properties exists, this value will be overwritten, but
 	 * only if the file contains a value for this attribute
 	 * <p>
 	 * (default: false)
 	 */
-	public static boolean LOG_DATE = false;
+	private static boolean LOG_LATENCY_METRICS = false;
+
+	/**
+	 * Appender of the Log-File, opened with the first log to the file
+	 */
+	private static volatile Appender fileAppender;
 
 	/**
 	 * Log-Indicator for INFO-Logs
@@ -190,19 +357,92 @@ public class Logger {
 	 * {2} : Replaced by chosen Location-Level
 	 * {3} : Replaced by individual content
 	 */
-	private static final String defaultString = "{0}" + "{1}" + "{2}" + "{3}";
+	static final String defaultString = "{0}" + "{1}" + "{2}" + "{3}";
+
+	/**
+	 * Compiled defaultString, renders every log without a shared Log-String
+	 */
+	private static final LogFormatter formatter = new LogFormatter( defaultString );
+
+	/**
+	 * Size of the buffer (bytes) of the PrintStreams, which is written at once (see ConsoleAppender)
+	 * (default: 65536)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
+	 */
+	private static int consoleBufferSize = 65536;
 
 	/**
-	 * After every log, this String is reset to the defaultString
+	 * Max. time (ms) a log stays in the buffer of the PrintStreams (0: write every log immediately)
+	 * In the asynchronous Log-Mode the buffer is also written, whenever the Ring-Buffer is drained
+	 * ERROR-Logs are always written immediately
+	 * (default: 0)
+	 * <p>
+	 * If Logger.properties exists, this value will be overwritten, but
+	 * only if the file contains a value for this attribute
 	 */
-	private static String logString = defaultString;
+	private static int consoleFlushInterval = 0;
 
 	/**
 	 * Individual PrintStream (default is System.out)
-	 * If LOG_TO_IDE_CONSOLE is true, the logs will be forwarded to this PrintStream
+	 * If LOG_TO_IDE_CONSOLE is true, the logs (except ERROR-Logs) will be forwarded to this PrintStream
+	 * (see consoleFlushInterval)
 	 */
 	public static PrintStream out = System.out;
 
+	/**
+	 * Individual PrintStream for ERROR-Logs (default is System.err)
+	 * If LOG_TO_IDE_CONSOLE is true, the ERROR-Logs will be forwarded to this PrintStream
+	 */
+	public static PrintStream err = System.err;
+
+	/**
+	 * Appender of the PrintStreams out and err
+	 */
+	private static volatile ConsoleAppender consoleAppender = new ConsoleAppender( consoleBufferSize, consoleFlushInterval );
+
+	/**
+	 * Registered appender with its Log-Types (see enabledLogTypes)
+	 */
+	private static final class Registration {
+		private final Appender appender;
+		private final int logTypes;
+
+		private Registration( Appender appender, int logTypes ) {
+			this.appender = appender;
+			this.logTypes = logTypes;
+		}
+	}
+
+	/**
+	 * Loggers of the classes (see get)
+	 */
+	private static final ClassValue<NamedLogger> namedLoggers = new ClassValue<>() {
+		@Override
+		protected NamedLogger computeValue( Class<?> type ) {
+			return new NamedLogger( type );
+		}
+	};
+
+	/**
+	 * Guards the changes of the configuration (reload, addAppender, removeAppender, opening the Log-File),
+	 * a lock instead of a monitor, so virtual threads are not pinned to their carrier while files are opened
+	 */
+	private static final ReentrantLock configLock = new ReentrantLock();
+
+	/**
+	 * true, after the first instance has set up the console buffer, rotated the Log-Files and
+	 * registered the binary Log-File, the MBean and the shutdown hook
+	 * Every further instance only reads Logger.properties again
+	 */
+	private static final AtomicBoolean initialized = new AtomicBoolean();
+
+	/**
+	 * Additional appenders (see addAppender), replaced as a whole on every change
+	 */
+	private static volatile Registration[] appenders = new Registration[ 0 ];
+
 	static {
 		//noinspection InstantiationOfUtilityClass
 		new Logger();
@@ -210,32 +450,229 @@ public class Logger {
 
 	public Logger() {
 		ResBundle res = new ResBundle( "Logger" );
-		if( res.getString( "logFile" ) != null )
-			logFile = res.getString( "logFile" );
+		apply( currentConfig().read( res, true ) );
 		if( res.getInteger( "anzLogBackups" ) != null )
 			countLogBackups = res.getInteger( "anzLogBackups" );
-		if( res.getInteger( "errorLogLevel" ) != null )
-			errorLogLevel = res.getInteger( "errorLogLevel" );
-		if( res.getBoolean( "LOG_INFO" ) != null )
-			LOG_INFO = res.getBoolean( "LOG_INFO" );
-		if( res.getBoolean( "LOG_PRINT" ) != null )
-			LOG_PRINT = res.getBoolean( "LOG_PRINT" );
-		if( res.getBoolean( "LOG_MESSAGE" ) != null )
-			LOG_MESSAGE = res.getBoolean( "LOG_MESSAGE" );
-		if( res.getBoolean( "LOG_SYSTEM" ) != null )
-			LOG_SYSTEM = res.getBoolean( "LOG_SYSTEM" );
-		if( res.getBoolean( "LOG_DEBUG" ) != null )
-			LOG_DEBUG = res.getBoolean( "LOG_DEBUG" );
-		if( res.getBoolean( "LOG_ERROR" ) != null )
-			LOG_ERROR = res.getBoolean( "LOG_ERROR" );
-		if( res.getBoolean( "LOG_TO_IDE_CONSOLE" ) != null )
-			LOG_TO_PRINTSTREAM = res.getBoolean( "LOG_TO_IDE_CONSOLE" );
-		if( res.getBoolean( "LOG_TO_FILE" ) != null )
-			LOG_TO_FILE = res.getBoolean( "LOG_TO_FILE" );
-		if( res.getBoolean( "LOG_DATE" ) != null )
-			LOG_DATE = res.getBoolean( "LOG_DATE" );
-
-		FileBundle.delete( logFile, countLogBackups );
+		if( res.getBoolean( "LOG_ASYNC" ) != null )
+			LOG_ASYNC = res.getBoolean( "LOG_ASYNC" );
+		if( res.getInteger( "asyncBufferSize" ) != null )
+			asyncBufferSize = res.getInteger( "asyncBufferSize" );
+		asyncFullPolicy = LoggerConfig.readEnum( res, "asyncFullPolicy", AsyncLogger.FullPolicy.class, asyncFullPolicy );
+		if( res.getInteger( "fileBufferSize" ) != null )
+			fileBufferSize = res.getInteger( "fileBufferSize" );
+		if( res.getInteger( "fileFlushInterval" ) != null )
+			fileFlushInterval = res.getInteger( "fileFlushInterval" );
+		if( res.getInteger( "maxLogFileSize" ) != null )
+			maxLogFileSize = res.getInteger( "maxLogFileSize" );
+		logRollInterval = LoggerConfig.readEnum( res, "logRollInterval", FileAppender.RollInterval.class, logRollInterval );
+		if( res.getBoolean( "LOG_COMPRESS_BACKUPS" ) != null )
+			LOG_COMPRESS_BACKUPS = res.getBoolean( "LOG_COMPRESS_BACKUPS" );
+		if( res.getBoolean( "LOG_FILE_MAPPED" ) != null )
+			LOG_FILE_MAPPED = res.getBoolean( "LOG_FILE_MAPPED" );
+		if( res.getInteger( "mappedRegionSize" ) != null )
+			mappedRegionSize = res.getInteger( "mappedRegionSize" );
+
+		if( res.getBoolean( "LOG_TO_BINARY_FILE" ) != null )
+			LOG_TO_BINARY_FILE = res.getBoolean( "LOG_TO_BINARY_FILE" );
+		if( res.getString( "binaryLogFile" ) != null )
+			binaryLogFile = res.getString( "binaryLogFile" );
+		if( res.getInteger( "configReloadInterval" ) != null )
+			configReloadInterval = res.getInteger( "configReloadInterval" );
+		if( res.getBoolean( "LOG_JMX" ) != null )
+			LOG_JMX = res.getBoolean( "LOG_JMX" );
+		if( res.getBoolean( "LOG_LATENCY_METRICS" ) != null )
+			LOG_LATENCY_METRICS = res.getBoolean( "LOG_LATENCY_METRICS" );
+		if( res.getInteger( "consoleBufferSize" ) != null )
+			consoleBufferSize = res.getInteger( "consoleBufferSize" );
+		if( res.getInteger( "consoleFlushInterval" ) != null )
+			consoleFlushInterval = res.getInteger( "consoleFlushInterval" );
+
+		if( LOG_ASYNC )
+			AsyncLogger.start( asyncBufferSize, asyncFullPolicy );
+
+		ConfigReloader.start( configReloadInterval );
+
+		LoggerMetrics.latency = LOG_LATENCY_METRICS;
+
+		// the outputs are only set up once, later instances must not replace or rotate them while they are written
+		if( !initialized.compareAndSet( false, true ) )
+			return;
+
+		consoleAppender.close();
+		consoleAppender = new ConsoleAppender( consoleBufferSize, consoleFlushInterval );
+
+		FileBundle.delete( logFile, countLogBackups, LOG_COMPRESS_BACKUPS );
+
+		if( LOG_TO_BINARY_FILE ) {
+			FileBundle.delete( binaryLogFile, countLogBackups, LOG_COMPRESS_BACKUPS );
+			try {
+				addAppender( new BinaryAppender( binaryLogFile, fileBufferSize, fileFlushInterval,
+						maxLogFileSize * 1024L, countLogBackups, LOG_COMPRESS_BACKUPS ) );
+			} catch( IOException e ) {
+				e.printStackTrace();
+			}
+		}
+
+		if( LOG_JMX )
+			LoggerMetrics.register();
+
+		Runtime.getRuntime().addShutdownHook( new Thread( Logger::shutdown, "Logger-Shutdown" ) );
+	}
+
+	/**
+	 * Blocks until all pending events of the asynchronous Log-Mode are written
+	 * and writes all buffered logs to the Log-File
+	 */
+	public static void flush() {
+		AsyncLogger.flush();
+		consoleAppender.flush();
+		Appender appender = fileAppender;
+		if( appender != null )
+			appender.flush();
+		for( Registration registration : appenders )
+			registration.appender.flush();
+	}
+
+	/**
+	 * Writes all pending logs, stops the asynchronous Log-Mode and closes the Log-File
+	 * Called at JVM exit, so no logs are lost
+	 */
+	public static void shutdown() {
+		ErrorTrace.reportSuppressed();
+		AsyncLogger.shutdown();
+		consoleAppender.close();
+		Appender appender = fileAppender;
+		if( appender != null )
+			appender.close();
+		for( Registration registration : appenders )
+			registration.appender.close();
+		if( LOG_COMPRESS_BACKUPS )
+			BackupCompressor.await( 30_000 );
+	}
+
+	/**
+	 * Reads Logger.properties again and applies the Log-Types, locationLevel, errorLogLevel,
+	 * errorSuppressInterval, LOG_TO_IDE_CONSOLE, LOG_TO_FILE, logFile, LOG_DATE and logDatePattern
+	 * All other attributes are only read at startup
+	 * <p>
+	 * The file is read completely before any attribute is changed, an invalid file changes nothing
+	 * The Log-Types are switched at once, a changed logFile is closed and the new file is opened with the next log
+	 */
+	public static void reload() {
+		configLock.lock();
+		try {
+			ResBundle.clearCache();
+			try {
+				apply( currentConfig().read( new ResBundle( "Logger" ), false ) );
+			} catch( IllegalArgumentException e ) {
+				e.printStackTrace();
+			}
+		} finally {
+			configLock.unlock();
+		}
+	}
+
+	/**
+	 * @return snapshot of the current reloadable attributes
+	 */
+	private static LoggerConfig currentConfig() {
+		return new LoggerConfig( enabledLogTypes.get(), levelRules, locationLevel, errorLogLevel, errorSuppressInterval,
+				LOG_TO_PRINTSTREAM, LOG_TO_FILE, logFile, LOG_DATE, logDatePattern );
+	}
+
+	/**
+	 * Applies the snapshot, the Log-Types are switched by one atomic write
+	 *
+	 * @param config snapshot of the reloadable attributes
+	 */
+	private static void apply( LoggerConfig config ) {
+		enabledLogTypes.set( config.logTypes );
+		levelRules = config.levelRules;
+		locationLevel = config.locationLevel;
+		errorLogLevel = config.errorLogLevel;
+		errorSuppressInterval = config.errorSuppressInterval;
+		logDatePattern = config.logDatePattern;
+		LOG_DATE = config.logDate;
+		LOG_TO_PRINTSTREAM = config.logToPrintStream;
+
+		if( !config.logFile.equals( logFile ) ) {
+			Appender previous;
+			configLock.lock();
+			try {
+				previous = fileAppender;
+				fileAppender = null;
+				logFile = config.logFile;
+			} finally {
+				configLock.unlock();
+			}
+			if( previous != null )
+				previous.close();
+		}
+		LOG_TO_FILE = config.logToFile;
+	}
+
+	/**
+	 * Register an additional appender, every log is formatted once for all appenders
+	 * The appender only gets the logs of the given Log-Types (all Log-Types, if none is given)
+	 *
+	 * @param appender to be registered
+	 * @param logTypes Log-Types, which are appended
+	 */
+	public static void addAppender( Appender appender, LogType... logTypes ) {
+		configLock.lock();
+		try {
+			int mask = 0;
+			for( LogType logType : logTypes )
+				mask |= bit( logType );
+			if( logTypes.length == 0 )
+				mask = ( 1 << LogType.values().length ) - 1;
+
+			Registration[] registrations = Arrays.copyOf( appenders, appenders.length + 1 );
+			registrations[ registrations.length - 1 ] = new Registration( appender, mask );
+			appenders = registrations;
+		} finally {
+			configLock.unlock();
+		}
+	}
+
+	/**
+	 * Unregister an appender, the appender is flushed, but not closed
+	 *
+	 * @param appender to be unregistered
+	 */
+	public static void removeAppender( Appender appender ) {
+		configLock.lock();
+		try {
+			appenders = Arrays.stream( appenders )
+					.filter( registration -> registration.appender != appender )
+					.toArray( Registration[]::new );
+		} finally {
+			configLock.unlock();
+		}
+		appender.flush();
+	}
+
+	/**
+	 * Returns the logger of the class, which knows its class without analyzing the stack
+	 * The logger is created once per class
+	 *
+	 * @param clazz which logs
+	 * @return logger of the class
+	 */
+	public static NamedLogger get( Class<?> clazz ) {
+		return namedLoggers.get( clazz );
+	}
+
+	/**
+	 * Returns a batch, which collects logs of the Log-Type and writes them at once, when it is closed
+	 * The Log-Type and the location of the caller (see locationLevel) are checked/resolved once for
+	 * the whole batch, if the Log-Type is disabled, the added logs are ignored
+	 *
+	 * @param logType Log-Type of all logs of the batch
+	 * @return batch, which has to be closed (e.g. by try-with-resources)
+	 */
+	public static LogBatch batch( LogType logType ) {
+		return new LogBatch( logType, isEnabled( bit( logType ) ) ? CallSite.location( locationLevel ) : null );
 	}
 
 	/**
@@ -244,7 +681,7 @@ public class Logger {
 	 * @param type Log-Type for the splitter
 	 *             (supported LogTypes: INFO, MESSAGE, DEBUG, PRINT, SYSTEM)
 	 */
-	public static synchronized void splitter( LogType type ) {
+	public static void splitter( LogType type ) {
 		String splitter = ">>> ---------- ----------  <<<";
 		switch( type ) {
 			case INFO:
@@ -267,48 +704,70 @@ public class Logger {
 
 	/**
 	 * Analyzes the StackTrace to the depth depending on the errorLogLevel and
-	 * concatenate the StackTraceElement to one String
+	 * concatenate the StackTraceElement to one String (cached per throw site, see ErrorTrace)
+	 * Suppressed exceptions and causes are appended with their StackTraces
 	 *
-	 * @param pSTE   StackTrace of the Exception
-	 * @param pError Message to be logged
+	 * @param throwable Throwable to be logged/analyzed
+	 * @param pError    Message to be logged
 	 */
-	private static synchronized void error( StackTraceElement[] pSTE, String pError ) {
-		if( !LOG_ERROR )
-			return;
-		String error = "[ " + "Message: " + pError + " ]" + "\n";
+	private static void error( Throwable throwable, Supplier<String> pError ) {
+		if( accept( ERROR_BIT ) )
+			logError( throwable, pError );
+	}
 
-		StringBuilder blanks = new StringBuilder();
-		blanks.append( " ".repeat( ERROR.length() ) );
+	/**
+	 * Logs the Throwable without checking, if ERROR-Logs are enabled (see error)
+	 *
+	 * @param throwable Throwable to be logged/analyzed
+	 * @param pError    Message to be logged
+	 */
+	static void logError( Throwable throwable, Supplier<String> pError ) {
+		StackTraceElement[] pSTE = throwable.getStackTrace();
+		ErrorTrace trace = ErrorTrace.of( pSTE, Math.min( Math.max( 1, errorLogLevel ), pSTE.length ) );
+		String suppressed = trace.admit( throwable, System.currentTimeMillis(), errorSuppressInterval * 1000L );
+		if( suppressed == null )
+			return;
 
-		StringBuilder stackTrace = new StringBuilder( blanks + pSTE[ 0 ].toString() );
-		for( int i = 1; i < pSTE.length && i < errorLogLevel; i++ )
-			stackTrace.append( "\n" ).append( blanks ).append( pSTE[ i ].toString() );
+		String stackTrace = trace.text();
+		if( throwable.getCause() != null || throwable.getSuppressed().length > 0 || !suppressed.isEmpty() ) {
+			StringBuilder builder = new StringBuilder( stackTrace );
+			ErrorTrace.appendEnclosed( throwable, pSTE, errorLogLevel, builder );
+			stackTrace = builder.append( suppressed ).toString();
+		}
+		String error = "[ " + "Message: " + pError.get() + " ]" + "\n";
 
-		logString = logString.replace( "{0}", ERROR );
-		logString = logString.replace( "{2}", error );
-		logString = logString.replace( "{3}", stackTrace.toString() );
+		// the message belongs to the content, the location is kept for call sites (see BinaryAppender)
+		log( LogType.ERROR, "", error + stackTrace );
+	}
 
-		log( LogType.ERROR );
+	/**
+	 * Log a Throwable (e.g. Exception, Error) with a specific message
+	 *
+	 * @param throwable Throwable to be logged/analyzed
+	 * @param error     Individual message to be logged
+	 */
+	public static void error( Throwable throwable, Object error ) {
+		error( throwable, error::toString );
 	}
 
 	/**
-	 * Log an Exception with a specific message
+	 * Log a Throwable (e.g. Exception, Error) with a specific message
 	 *
-	 * @param e     Exception to be logged/analyzed
-	 * @param error Individual message to be logged
+	 * @param throwable Throwable to be logged/analyzed
+	 * @param pattern   message with placeholders {0}, {1}, ...
+	 * @param args      replacements of the placeholders
 	 */
-	public static synchronized void error( Exception e, Object error ) {
-		error( e.getStackTrace(), error.toString() );
+	public static void error( Throwable throwable, String pattern, Object... args ) {
+		error( throwable, () -> LogFormatter.substitute( pattern, args ) );
 	}
 
 	/**
-	 * Log an Exception with a specific message
+	 * Log a Throwable (e.g. Exception, Error) with its message (see Throwable.toString)
 	 *
-	 * @param e Exception to be logged/analyzed
+	 * @param throwable Throwable to be logged/analyzed
 	 */
-	public static synchronized void error( Exception e ) {
-		String exception = e.toString();
-		error( e.getStackTrace(), exception );
+	public static void error( Throwable throwable ) {
+		error( throwable, throwable::toString );
 	}
 
 	/**
@@ -316,187 +775,986 @@ public class Logger {
 	 *
 	 * @param system Individual text/string
 	 */
-	public static synchronized void system( Object system ) {
-		if( setupLogString( system.toString(), LOG_SYSTEM, SYSTEM ) )
+	public static void system( Object system ) {
+		if( !accept( SYSTEM_BIT ) )
 			return;
 
-		log( LogType.SYSTEM );
+		log( LogType.SYSTEM, system.toString() );
 	}
 
 	/**
-	 * Log a text on the SYSTEM-Level
+	 * Log a text on the SYSTEM-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
 	 *
-	 * @param debug Individual text/string
+	 * @param system Individual text
 	 */
-	public static synchronized void debug( Object debug ) {
-		if( setupLogString( debug.toString(), LOG_DEBUG, DEBUG ) )
+	public static void system( CharSequence system ) {
+		if( !accept( SYSTEM_BIT ) )
 			return;
 
-		log( LogType.DEBUG );
+		log( LogType.SYSTEM, system );
 	}
 
 	/**
-	 * Log a text on the INFO-Level
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
 	 *
-	 * @param info Individual text/string
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
 	 */
-	public static synchronized void info( Object info ) {
-		if( setupLogString( info.toString(), LOG_INFO, INFO ) )
+	public static void system( String pattern, long arg ) {
+		if( !accept( SYSTEM_BIT ) )
 			return;
 
-		log( LogType.INFO );
+		log( LogType.SYSTEM, pattern, arg, 0, LogFormatter.LONG );
 	}
 
 	/**
-	 * Log a text on the INFO-Level
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
 	 *
-	 * @param message Individual text/string
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
 	 */
-	public static synchronized void message( Object message ) {
-		if( setupLogString( message.toString(), LOG_MESSAGE, MESSAGE ) )
+	public static void system( String pattern, double arg ) {
+		if( !accept( SYSTEM_BIT ) )
 			return;
 
-		log( LogType.MESSAGE );
+		log( LogType.SYSTEM, pattern, 0, arg, LogFormatter.DOUBLE );
 	}
 
 	/**
-	 * Log a text on the PRINT-Level
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
 	 *
-	 * @param text Individual string/text
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
 	 */
-	public static synchronized void print( Object text ) {
-		if( setupLogString( text.toString(), LOG_PRINT, PRINT ) )
+	public static void system( String pattern, float arg ) {
+		if( !accept( SYSTEM_BIT ) )
 			return;
 
-		log( LogType.PRINT );
+		log( LogType.SYSTEM, pattern, 0, arg, LogFormatter.FLOAT );
 	}
 
 	/**
-	 * Prepares the Log-String (Replaces the different parts)
-	 * {0} : Replaced by the Log-Indicator
-	 * {1} : Not replaced yet!
-	 * {2} : Replaced by chosen Location-Level
-	 * {3} : Replaced by individual content
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
 	 *
-	 * @param arg  text to be logged
-	 * @param log  Log-Level
-	 * @param type Indicator of the Log-Level
-	 * @return Prepared Log-String
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
 	 */
-	private static boolean setupLogString( String arg, boolean log, String type ) {
-		if( !log )
-			return true;
-		StackTraceElement[] elements = Thread.currentThread().getStackTrace();
-
-		logString = logString.replace( "{0}", type );
-
-		int index = getLogIndex( elements );
-
-		switch( locationLevel ) {
-			case FULL_QUALIFIED:
-				logString = logString.replace( "{2}",
-						"[ " + elements[ index ].getClassName()
-								+ " - " + elements[ index ].getMethodName()
-								+ ":" + elements[ index ].getLineNumber() + " ] " );
-				break;
-			case CLASSNAME_METHODNAME_LINENUMBER:
-				logString = logString.replace( "{2}",
-						"[ " + elements[ index ].getClassName().substring( elements[ index ].getClassName().lastIndexOf( '.' ) + 1 )
-								+ " - " + elements[ index ].getMethodName()
-								+ ":" + elements[ index ].getLineNumber() + " ] " );
-				break;
-			case CLASSNAME_METHODNAME:
-				logString = logString.replace( "{2}",
-						"[ " + elements[ index ].getClassName().substring( elements[ index ].getClassName().lastIndexOf( '.' ) + 1 )
-								+ " - " + elements[ index ].getMethodName() + " ] " );
-				break;
-			case CLASSNAME_LINENUMBER:
-				logString = logString.replace( "{2}",
-						"[ " + elements[ index ].getClassName().substring( elements[ index ].getClassName().lastIndexOf( '.' ) + 1 )
-								+ ":" + elements[ index ].getLineNumber() + " ] " );
-				break;
-			case METHODNAME_LINENUMBER:
-				logString = logString.replace( "{2}",
-						"[ " + elements[ index ].getMethodName()
-								+ ":" + elements[ index ].getLineNumber() + " ] " );
-				break;
-			case METHODNAME:
-				logString = logString.replace( "{2}",
-						"[ " + elements[ index ].getMethodName() + " ] " );
-				break;
-			case NONE:
-			default:
-				logString = logString.replace( "{2}", "" );
-				break;
-		}
+	public static void system( String pattern, char arg ) {
+		if( !accept( SYSTEM_BIT ) )
+			return;
 
-		logString = logString.replace( "{3}", arg );
-		return false;
+		log( LogType.SYSTEM, pattern, arg, 0, LogFormatter.CHAR );
 	}
 
 	/**
-	 * Analyzes the StackTraceElement-Classes and look up, if the Class must be skipped or not
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if SYSTEM-Logs are enabled
 	 *
-	 * @param elements StackTraceElements to be analyzed
-	 * @return Index of the first non annotated Class with SkipClassLogging
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
 	 */
-	private static int getLogIndex( StackTraceElement[] elements ) {
-		int index = 1;
-		boolean done = false;
+	public static void system( String pattern, Object arg ) {
+		if( !accept( SYSTEM_BIT ) )
+			return;
 
-		while( !done ) {
-			try {
-				Class<?> clazz = Class.forName( elements[ index ].getClassName() );
-
-				// skip class maybe?
-				if( clazz.isAnnotationPresent( LoggingAnnotation.SkipLogging.class ) && clazz.getAnnotation( LoggingAnnotation.SkipLogging.class ).value() ) {
-					index++;
-				} else {
-					// skip method maybe?
-					int finalIndex = index;
-					Method method = Arrays.stream( clazz.getDeclaredMethods() ).filter( a -> a.getName().equals( elements[ finalIndex ].getMethodName() ) ).findFirst().get();
-					if( method.isAnnotationPresent( LoggingAnnotation.SkipLogging.class ) && method.getAnnotation( LoggingAnnotation.SkipLogging.class ).value() ) {
-						index++;
-					} else {
-						done = true;
-					}
-				}
-			} catch( ClassNotFoundException e ) {
-				e.printStackTrace();
-				done = true;
-			}
-		}
-		return index;
+		log( LogType.SYSTEM, LogFormatter.substitute( pattern, arg, null, 1 ) );
 	}
 
 	/**
-	 * Log the Log-String based on the given Log-Level to the
-	 * Print-Stream (if LOG_TO_PRINTSTREAM is true) and to the
-	 * File logFile (if LOG_TO_FILE is true)
-	 * Replaces {1} by the current Date, if LOG_DATE is true
-	 * <p>
-	 * At the end it will reset the logString to the defaultString
+	 * Log a text on the SYSTEM-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if SYSTEM-Logs are enabled
 	 *
-	 * @param logType Log-Level, to which the text/string is logged
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
 	 */
-	private static synchronized void log( LogType logType ) {
-		if( LOG_DATE )
-			logString = logString.replace( "{1}", "[ " + new Date() + " ]" );
-		else
-			logString = logString.replace( "{1}", "" );
+	public static void system( String pattern, Object arg0, Object arg1 ) {
+		if( !accept( SYSTEM_BIT ) )
+			return;
 
-		if( LOG_TO_PRINTSTREAM ) {
-			if( logType == LogType.ERROR )
-				out = System.err;
-			else
-				out = System.out;
-			out.println( logString );
-		}
+		log( LogType.SYSTEM, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
 
-		if( LOG_TO_FILE )
-			FileBundle.appendFile( logFile, logString );
+	/**
+	 * Log a text on the SYSTEM-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if SYSTEM-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public static void system( String pattern, Object... args ) {
+		if( !accept( SYSTEM_BIT ) )
+			return;
 
-		logString = defaultString;
+		log( LogType.SYSTEM, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level
+	 * The supplier is only called, if SYSTEM-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public static void system( Supplier<?> supplier ) {
+		if( !accept( SYSTEM_BIT ) )
+			return;
+
+		log( LogType.SYSTEM, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level
+	 *
+	 * @param debug Individual text/string
+	 */
+	public static void debug( Object debug ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, debug.toString() );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param debug Individual text
+	 */
+	public static void debug( CharSequence debug ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, debug );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void debug( String pattern, long arg ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void debug( String pattern, double arg ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void debug( String pattern, float arg ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void debug( String pattern, char arg ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if DEBUG-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void debug( String pattern, Object arg ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if DEBUG-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public static void debug( String pattern, Object arg0, Object arg1 ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if DEBUG-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public static void debug( String pattern, Object... args ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level
+	 * The supplier is only called, if DEBUG-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public static void debug( Supplier<?> supplier ) {
+		if( !accept( DEBUG_BIT ) )
+			return;
+
+		log( LogType.DEBUG, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level
+	 *
+	 * @param info Individual text/string
+	 */
+	public static void info( Object info ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, info.toString() );
+	}
+
+	/**
+	 * Log a text on the INFO-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param info Individual text
+	 */
+	public static void info( CharSequence info ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, info );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void info( String pattern, long arg ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void info( String pattern, double arg ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void info( String pattern, float arg ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void info( String pattern, char arg ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if INFO-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void info( String pattern, Object arg ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if INFO-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public static void info( String pattern, Object arg0, Object arg1 ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if INFO-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public static void info( String pattern, Object... args ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level
+	 * The supplier is only called, if INFO-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public static void info( Supplier<?> supplier ) {
+		if( !accept( INFO_BIT ) )
+			return;
+
+		log( LogType.INFO, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level
+	 *
+	 * @param message Individual text/string
+	 */
+	public static void message( Object message ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, message.toString() );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param message Individual text
+	 */
+	public static void message( CharSequence message ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, message );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void message( String pattern, long arg ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void message( String pattern, double arg ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void message( String pattern, float arg ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void message( String pattern, char arg ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if MESSAGE-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void message( String pattern, Object arg ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if MESSAGE-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public static void message( String pattern, Object arg0, Object arg1 ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if MESSAGE-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public static void message( String pattern, Object... args ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level
+	 * The supplier is only called, if MESSAGE-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public static void message( Supplier<?> supplier ) {
+		if( !accept( MESSAGE_BIT ) )
+			return;
+
+		log( LogType.MESSAGE, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level
+	 *
+	 * @param text Individual string/text
+	 */
+	public static void print( Object text ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, text.toString() );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param text Individual text
+	 */
+	public static void print( CharSequence text ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, text );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void print( String pattern, long arg ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void print( String pattern, double arg ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void print( String pattern, float arg ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void print( String pattern, char arg ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if PRINT-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public static void print( String pattern, Object arg ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if PRINT-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public static void print( String pattern, Object arg0, Object arg1 ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if PRINT-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public static void print( String pattern, Object... args ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level
+	 * The supplier is only called, if PRINT-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public static void print( Supplier<?> supplier ) {
+		if( !accept( PRINT_BIT ) )
+			return;
+
+		log( LogType.PRINT, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * Log the text at the location of the caller (see locationLevel)
+	 *
+	 * @param logType Log-Level, to which the text/string is logged
+	 * @param content text to be logged
+	 */
+	private static void log( LogType logType, CharSequence content ) {
+		log( logType, CallSite.location( locationLevel ), content );
+	}
+
+	/**
+	 * Log the pattern with its primitive argument rendered into the reusable content of the calling thread
+	 *
+	 * @param logType  Log-Level, to which the text/string is logged
+	 * @param pattern  text with the placeholder {0}
+	 * @param integral replacement of {0} for the kinds LONG and CHAR
+	 * @param floating replacement of {0} for the kinds DOUBLE and FLOAT
+	 * @param kind     kind of the argument (see LogFormatter.substitute)
+	 */
+	private static void log( LogType logType, String pattern, long integral, double floating, int kind ) {
+		StringBuilder content = LogFormatter.borrow();
+		try {
+			log( logType, LogFormatter.substitute( content, pattern, integral, floating, kind ) );
+		} finally {
+			LogFormatter.giveBack( content );
+		}
+	}
+
+	/**
+	 * Log the parts of the Log-String based on the given Log-Level
+	 * In the asynchronous Log-Mode, the parts are handed over to the AsyncLogger,
+	 * otherwise they are written directly (see write)
+	 *
+	 * @param logType  Log-Level, to which the text/string is logged
+	 * @param location Replacement of {2}
+	 * @param content  Replacement of {3}
+	 */
+	static void log( LogType logType, String location, CharSequence content ) {
+		LoggerMetrics.event( logType );
+		long time = System.currentTimeMillis();
+		if( !LOG_ASYNC || !AsyncLogger.publish( logType, location, content, time ) )
+			write( logType, location, content, time );
+	}
+
+	/**
+	 * Called by the asynchronous Log-Mode, whenever the Ring-Buffer is drained
+	 * Writes the buffered logs of the PrintStreams
+	 */
+	static void endOfBatch() {
+		consoleAppender.flush();
+	}
+
+	/**
+	 * Formats the Log-String (see defaultString) and writes it based on the given Log-Level to the
+	 * Print-Stream (if LOG_TO_PRINTSTREAM is true), to the
+	 * File logFile (if LOG_TO_FILE is true) and to all registered appenders
+	 * Replaces {1} by the given Date, if LOG_DATE is true
+	 * <p>
+	 * The Log-String is formatted and encoded once for all outputs (see LogLine)
+	 * concurrently on the calling thread, only the hand-off to each output is serialized
+	 * (the PrintStream and the appenders lock themselves),
+	 * so lines of different threads never interleave
+	 *
+	 * @param logType  Log-Level, to which the text/string is logged
+	 * @param location Replacement of {2}
+	 * @param content  Replacement of {3}
+	 * @param time     creation time of the log (ms)
+	 */
+	static void write( LogType logType, String location, CharSequence content, long time ) {
+		long start = LoggerMetrics.start();
+		LogLine line = LogLine.acquire( logType, time, location, content );
+		try {
+			if( LOG_TO_PRINTSTREAM )
+				consoleAppender.append( line );
+
+			if( LOG_TO_FILE ) {
+				Appender appender = getFileAppender();
+				if( appender != null )
+					appender.append( line );
+				else
+					FileBundle.appendFile( logFile, line.getText().toString() );
+			}
+
+			int bit = bit( logType );
+			for( Registration registration : appenders )
+				if( ( registration.logTypes & bit ) != 0 )
+					registration.appender.append( line );
+		} finally {
+			line.release();
+			LoggerMetrics.written( start );
+		}
+	}
+
+	/**
+	 * Writes all logs of the batch to the same outputs as write, but every output gets
+	 * the logs in one piece (see Appender.append( LogBatch )), so it is locked and written once
+	 * In the asynchronous Log-Mode, the published logs are written first, so the order is kept,
+	 * then the batch is written by the calling thread
+	 *
+	 * @param batch logs to be written
+	 */
+	static void write( LogBatch batch ) {
+		LoggerMetrics.events( batch.getLogType(), batch.size() );
+		if( LOG_ASYNC )
+			AsyncLogger.flush();
+
+		long start = LoggerMetrics.start();
+		if( LOG_TO_PRINTSTREAM )
+			consoleAppender.append( batch );
+
+		if( LOG_TO_FILE ) {
+			Appender appender = getFileAppender();
+			if( appender != null )
+				appender.append( batch );
+			else
+				FileBundle.appendFile( logFile, batch.getLines() );
+		}
+
+		int bit = bit( batch.getLogType() );
+		for( Registration registration : appenders )
+			if( ( registration.logTypes & bit ) != 0 )
+				registration.appender.append( batch );
+		LoggerMetrics.written( start );
+	}
+
+	/**
+	 * Formats the Log-String (see defaultString)
+	 * Replaces {1} by the given Date, if LOG_DATE is true
+	 *
+	 * @param builder  to which the Log-String is appended
+	 * @param logType  Log-Level, to which the text/string is logged
+	 * @param time     creation time of the log (ms)
+	 * @param location Replacement of {2}
+	 * @param content  Replacement of {3}
+	 */
+	static void format( StringBuilder builder, LogType logType, long time, String location, CharSequence content ) {
+		formatter.format( builder, indicator( logType ), LOG_DATE ? logDatePattern : null, time, location, content );
+	}
+
+	/**
+	 * @return size (chars) of the contents of a LogBatch, at which the batch is written (see fileBufferSize)
+	 */
+	static int batchFlushSize() {
+		return Math.max( 64, fileBufferSize );
+	}
+
+	/**
+	 * @param logType Log-Level
+	 * @return Log-Indicator of the Log-Level
+	 */
+	static String indicator( LogType logType ) {
+		switch( logType ) {
+			case INFO:
+				return INFO;
+			case MESSAGE:
+				return MESSAGE;
+			case DEBUG:
+				return DEBUG;
+			case ERROR:
+				return ERROR;
+			case PRINT:
+				return PRINT;
+			case SYSTEM:
+			default:
+				return SYSTEM;
+		}
+	}
+
+	/**
+	 * Opens the appender of the Log-File, if it is not open yet
+	 * The appender is a MappedFileAppender, if LOG_FILE_MAPPED is true, otherwise a FileAppender
+	 *
+	 * @return appender of the logFile or null, if the file cannot be opened
+	 */
+	private static Appender getFileAppender() {
+		Appender appender = fileAppender;
+		if( appender == null ) {
+			configLock.lock();
+			try {
+				appender = fileAppender;
+				if( appender == null ) {
+					try {
+						if( LOG_FILE_MAPPED )
+							appender = new MappedFileAppender( logFile, mappedRegionSize * 1024 * 1024,
+									maxLogFileSize * 1024L, logRollInterval, countLogBackups, LOG_COMPRESS_BACKUPS );
+						else
+							appender = new FileAppender( logFile, fileBufferSize, fileFlushInterval,
+									maxLogFileSize * 1024L, logRollInterval, countLogBackups, LOG_COMPRESS_BACKUPS );
+						fileAppender = appender;
+					} catch( IOException e ) {
+						e.printStackTrace();
+					}
+				}
+			} finally {
+				configLock.unlock();
+			}
+		}
+		return appender;
+	}
+
+	/**
+	 * @param logType to be checked
+	 * @return true, if the LogType is enabled (for the calling class, see levelRules)
+	 */
+	public static boolean isEnabled( LogType logType ) {
+		return isEnabled( bit( logType ) );
+	}
+
+	/**
+	 * @return true, if INFO-Logs are enabled
+	 */
+	public static boolean isInfoEnabled() {
+		return isEnabled( INFO_BIT );
+	}
+
+	/**
+	 * @return true, if MESSAGE-Logs are enabled
+	 */
+	public static boolean isMessageEnabled() {
+		return isEnabled( MESSAGE_BIT );
+	}
+
+	/**
+	 * @return true, if DEBUG-Logs are enabled
+	 */
+	public static boolean isDebugEnabled() {
+		return isEnabled( DEBUG_BIT );
+	}
+
+	/**
+	 * @return true, if ERROR-Logs are enabled
+	 */
+	public static boolean isErrorEnabled() {
+		return isEnabled( ERROR_BIT );
+	}
+
+	/**
+	 * @return true, if PRINT-Logs are enabled
+	 */
+	public static boolean isPrintEnabled() {
+		return isEnabled( PRINT_BIT );
+	}
+
+	/**
+	 * @return true, if SYSTEM-Logs are enabled
+	 */
+	public static boolean isSystemEnabled() {
+		return isEnabled( SYSTEM_BIT );
+	}
+
+	/**
+	 * Checks the Log-Type for the calling class (see levelRules)
+	 * The caller is only looked up, if any class or package has a rule for the Log-Type
+	 *
+	 * @param bit Log-Type as bit (see enabledLogTypes)
+	 * @return true, if the Log-Type is enabled
+	 */
+	private static boolean isEnabled( int bit ) {
+		int logTypes = enabledLogTypes.get();
+		LevelRules rules = levelRules;
+		if( !rules.affects( bit ) )
+			return ( logTypes & bit ) != 0;
+		return ( rules.of( CallSite.callerClass() ).apply( logTypes ) & bit ) != 0;
+	}
+
+	/**
+	 * Guard of the log methods: Checks the Log-Type for the calling class
+	 * A disabled log is not counted, so the guard stays a load and a branch without level rules
+	 *
+	 * @param bit Log-Type as bit (see enabledLogTypes)
+	 * @return true, if the Log-Type is enabled
+	 */
+	private static boolean accept( int bit ) {
+		return isEnabled( bit );
+	}
+
+	/**
+	 * Guard of the log methods of a NamedLogger (see accept)
+	 *
+	 * @param bit   Log-Type as bit (see enabledLogTypes)
+	 * @param clazz logging class
+	 * @return true, if the Log-Type is enabled
+	 */
+	static boolean accept( int bit, Class<?> clazz ) {
+		return isEnabled( bit, clazz );
+	}
+
+	/**
+	 * Checks the Log-Type for the given class (see levelRules)
+	 *
+	 * @param bit   Log-Type as bit (see enabledLogTypes)
+	 * @param clazz logging class
+	 * @return true, if the Log-Type is enabled
+	 */
+	static boolean isEnabled( int bit, Class<?> clazz ) {
+		int logTypes = enabledLogTypes.get();
+		LevelRules rules = levelRules;
+		if( !rules.affects( bit ) )
+			return ( logTypes & bit ) != 0;
+		return ( rules.of( clazz ).apply( logTypes ) & bit ) != 0;
 	}
 
 	/**
@@ -513,24 +1771,36 @@ public class Logger {
 		toggleLogType( logType, true );
 	}
 
+	/**
+	 * Enable or disable a LogType
+	 * Replaces the former fields LOG_INFO, LOG_MESSAGE, LOG_DEBUG, LOG_ERROR, LOG_PRINT and LOG_SYSTEM
+	 * (read them by isEnabled)
+	 *
+	 * @param logType to be enabled/disabled
+	 * @param enabled true, if the LogType is logged
+	 */
+	public static void setEnabled( LogType logType, boolean enabled ) {
+		toggleLogType( logType, enabled );
+	}
+
 	/**
 	 * Disable all LogTypes
 	 */
 	public static void disableAll() {
-		for( LogType logType : LogType.values() )
-			disable( logType );
+		enabledLogTypes.set( 0 );
 	}
 
 	/**
 	 * Disable all LogTypes, except the given LogTypes
+	 * The given LogTypes keep their current state, all LogTypes are updated at once
 	 */
 	public static void disableAllWithout( LogType... args ) {
-		List<LogType> tempList = Arrays.asList( args );
-
-		for( LogType logType : LogType.values() )
-			if( !tempList.contains( logType ) )
-				disable( logType );
+		int keep = 0;
+		for( LogType logType : args )
+			keep |= bit( logType );
 
+		int finalKeep = keep;
+		enabledLogTypes.getAndUpdate( mask -> mask & finalKeep );
 	}
 
 	/**
@@ -540,25 +1810,18 @@ public class Logger {
 	 * @param arg     LogType to be set to
 	 */
 	private static void toggleLogType( LogType logType, boolean arg ) {
-		switch( logType ) {
-			case INFO:
-				LOG_INFO = arg;
-				break;
-			case MESSAGE:
-				LOG_MESSAGE = arg;
-				break;
-			case DEBUG:
-				LOG_DEBUG = arg;
-				break;
-			case ERROR:
-				LOG_ERROR = arg;
-				break;
-			case PRINT:
-				LOG_PRINT = arg;
-				break;
-			case SYSTEM:
-				LOG_SYSTEM = arg;
-				break;
-		}
+		int bit = bit( logType );
+		if( arg )
+			enabledLogTypes.getAndUpdate( mask -> mask | bit );
+		else
+			enabledLogTypes.getAndUpdate( mask -> mask & ~bit );
+	}
+
+	/**
+	 * @param logType Log-Level
+	 * @return bit of the LogType in enabledLogTypes
+	 */
+	private static int bit( LogType logType ) {
+		return 1 << logType.ordinal();
 	}
 }
@@ -0,0 +1,124 @@
+package logging;
+
+/**
+ * Immutable snapshot of the attributes of the Logger, which can be reloaded at runtime
+ * (see Logger.reload and ConfigReloader)
+ * <p>
+ * A snapshot is read completely before it is applied, so an invalid Logger.properties
+ * does not change any attribute
+ *
+ * @author cstockhoff
+ */
+final class LoggerConfig {
+
+	/**
+	 * Enabled Log-Types as bitmask (see Logger.enabledLogTypes)
+	 */
+	final int logTypes;
+
+	/**
+	 * Log-Types of single classes and packages, always read completely from Logger.properties
+	 */
+	final LevelRules levelRules;
+	final Logger.LocationLevel locationLevel;
+	final int errorLogLevel;
+	final int errorSuppressInterval;
+	final boolean logToPrintStream;
+	final boolean logToFile;
+	final String logFile;
+	final boolean logDate;
+	final TimestampFormatter logDatePattern;
+
+	LoggerConfig( int logTypes, LevelRules levelRules, Logger.LocationLevel locationLevel, int errorLogLevel, int errorSuppressInterval,
+				  boolean logToPrintStream, boolean logToFile, String logFile,
+				  boolean logDate, TimestampFormatter logDatePattern ) {
+		this.logTypes = logTypes;
+		this.levelRules = levelRules;
+		this.locationLevel = locationLevel;
+		this.errorLogLevel = errorLogLevel;
+		this.errorSuppressInterval = errorSuppressInterval;
+		this.logToPrintStream = logToPrintStream;
+		this.logToFile = logToFile;
+		this.logFile = logFile;
+		this.logDate = logDate;
+		this.logDatePattern = logDatePattern;
+	}
+
+	/**
+	 * Reads the attributes from the ResBundle
+	 * Every attribute, which is missing in the ResBundle, keeps its value of this snapshot
+	 * <p>
+	 * At startup the Logger reads leniently: an invalid value is reported and the attribute keeps
+	 * its value, so a typo cannot break the initialization of the Logger. A reload is strict,
+	 * so an invalid file changes nothing (see Logger.reload)
+	 *
+	 * @param res     Logger.properties
+	 * @param lenient true, if invalid values are reported and skipped
+	 * @return new snapshot
+	 * @throws IllegalArgumentException if a value is invalid (e.g. an unknown Location-Level) and lenient is false
+	 */
+	LoggerConfig read( ResBundle res, boolean lenient ) {
+		int logTypes = this.logTypes;
+		for( Logger.LogType logType : Logger.LogType.values() ) {
+			Boolean enabled = res.getBoolean( "LOG_" + logType.name() );
+			if( enabled != null )
+				logTypes = enabled ? logTypes | 1 << logType.ordinal() : logTypes & ~( 1 << logType.ordinal() );
+		}
+
+		Logger.LocationLevel locationLevel = this.locationLevel;
+		if( lenient )
+			locationLevel = readEnum( res, "locationLevel", Logger.LocationLevel.class, locationLevel );
+		else if( res.getString( "locationLevel" ) != null )
+			locationLevel = Logger.LocationLevel.valueOf( res.getString( "locationLevel" ).trim().toUpperCase() );
+		Integer errorLogLevel = res.getInteger( "errorLogLevel" );
+		Integer errorSuppressInterval = res.getInteger( "errorSuppressInterval" );
+		Boolean logToPrintStream = res.getBoolean( "LOG_TO_IDE_CONSOLE" );
+		Boolean logToFile = res.getBoolean( "LOG_TO_FILE" );
+		String logFile = res.getString( "logFile" );
+		Boolean logDate = res.getBoolean( "LOG_DATE" );
+
+		TimestampFormatter logDatePattern = this.logDatePattern;
+		String pattern = res.getString( "logDatePattern" );
+		if( pattern != null && !pattern.equals( logDatePattern.getPattern() ) ) {
+			try {
+				logDatePattern = new TimestampFormatter( pattern );
+			} catch( IllegalArgumentException e ) {
+				if( !lenient )
+					throw e;
+				e.printStackTrace();
+			}
+		}
+
+		return new LoggerConfig( logTypes, LevelRules.read( res ), locationLevel,
+				errorLogLevel != null ? errorLogLevel : this.errorLogLevel,
+				errorSuppressInterval != null ? errorSuppressInterval : this.errorSuppressInterval,
+				logToPrintStream != null ? logToPrintStream : this.logToPrintStream,
+				logToFile != null ? logToFile : this.logToFile,
+				logFile != null ? logFile : this.logFile,
+				logDate != null ? logDate : this.logDate,
+				logDatePattern );
+	}
+
+	/**
+	 * Reads an enum attribute (case-insensitive)
+	 * An invalid value is reported and the given value is kept, so a typo in Logger.properties
+	 * cannot break the initialization of the Logger
+	 *
+	 * @param res   Logger.properties
+	 * @param key   of the attribute
+	 * @param type  of the enum
+	 * @param value current value of the attribute
+	 * @return read value, the current value if it is missing or invalid
+	 */
+	static <E extends Enum<E>> E readEnum( ResBundle res, String key, Class<E> type, E value ) {
+		String name = res.getString( key );
+		if( name == null )
+			return value;
+		try {
+			return Enum.valueOf( type, name.trim().toUpperCase() );
+		} catch( IllegalArgumentException e ) {
+			e.printStackTrace();
+			return value;
+		}
+	}
+}
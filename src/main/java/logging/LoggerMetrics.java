@@ -0,0 +1,357 @@
+package logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Counters of the Logger: Logs per Log-Type, written bytes per sink,
+ * opened and flushed Log-Files, rolls and (optionally) the latency of formatting and writing
+ * <p>
+ * All counters are LongAdders, so counting takes no lock and allocates nothing after
+ * the first contended updates. The counters are read by a Snapshot or by JMX (see LoggerMetricsMXBean)
+ * <p>
+ * The latencies are measured only if LOG_LATENCY_METRICS is true, they cost two calls of
+ * System.nanoTime per log and are counted in buckets of powers of two
+ *
+ * @author cstockhoff
+ */
+public final class LoggerMetrics implements LoggerMetricsMXBean {
+
+	/**
+	 * Outputs, whose written bytes are counted
+	 */
+	public enum Sink {
+		CONSOLE,
+		FILE,
+		BINARY_FILE
+	}
+
+	/**
+	 * Name of the registered MBean
+	 */
+	public static final String OBJECT_NAME = "logging:type=LoggerMetrics";
+
+	private static final LoggerMetrics instance = new LoggerMetrics();
+
+	private static final LongAdder[] events = adders( Logger.LogType.values().length );
+	private static final LongAdder[] bytes = adders( Sink.values().length );
+	private static final LongAdder fileOpens = new LongAdder();
+	private static final LongAdder fileFlushes = new LongAdder();
+	private static final LongAdder rolls = new LongAdder();
+	private static final LongAdder rollNanos = new LongAdder();
+	private static final Histogram formatLatency = new Histogram();
+	private static final Histogram writeLatency = new Histogram();
+
+	/**
+	 * Enable/Disable measuring the latencies (see Logger.LOG_LATENCY_METRICS)
+	 */
+	static volatile boolean latency = false;
+
+	/**
+	 * Latencies counted in buckets, the bucket i holds latencies below 2^i ns
+	 */
+	private static final class Histogram {
+		private static final int BUCKETS = 40;
+		private final LongAdder[] buckets = adders( BUCKETS );
+
+		private void add( long nanos ) {
+			int bucket = 64 - Long.numberOfLeadingZeros( Math.max( 0, nanos ) );
+			buckets[ Math.min( bucket, BUCKETS - 1 ) ].increment();
+		}
+
+		private long[] counts() {
+			long[] counts = new long[ BUCKETS ];
+			for( int i = 0; i < BUCKETS; i++ )
+				counts[ i ] = buckets[ i ].sum();
+			return counts;
+		}
+
+		private void reset() {
+			for( LongAdder bucket : buckets )
+				bucket.reset();
+		}
+	}
+
+	/**
+	 * Immutable copy of all counters
+	 */
+	public static final class Snapshot {
+		private final long[] events;
+		private final long[] bytes;
+		private final long fileOpens;
+		private final long fileFlushes;
+		private final long rolls;
+		private final long rollNanos;
+		private final long droppedEvents;
+		private final long[] formatLatency;
+		private final long[] writeLatency;
+
+		private Snapshot() {
+			events = sums( LoggerMetrics.events );
+			bytes = sums( LoggerMetrics.bytes );
+			fileOpens = LoggerMetrics.fileOpens.sum();
+			fileFlushes = LoggerMetrics.fileFlushes.sum();
+			rolls = LoggerMetrics.rolls.sum();
+			rollNanos = LoggerMetrics.rollNanos.sum();
+			droppedEvents = AsyncLogger.getDroppedEvents();
+			formatLatency = LoggerMetrics.formatLatency.counts();
+			writeLatency = LoggerMetrics.writeLatency.counts();
+		}
+
+		/**
+		 * @param logType Log-Type to be checked
+		 * @return written logs of the Log-Type
+		 */
+		public long getEvents( Logger.LogType logType ) {
+			return events[ logType.ordinal() ];
+		}
+
+		/**
+		 * @param sink output to be checked
+		 * @return written bytes of the output
+		 */
+		public long getBytesWritten( Sink sink ) {
+			return bytes[ sink.ordinal() ];
+		}
+
+		public long getFileOpens() {
+			return fileOpens;
+		}
+
+		public long getFileFlushes() {
+			return fileFlushes;
+		}
+
+		public long getRolls() {
+			return rolls;
+		}
+
+		public long getRollTimeNanos() {
+			return rollNanos;
+		}
+
+		public long getDroppedEvents() {
+			return droppedEvents;
+		}
+
+		/**
+		 * @param percentile between 0 and 100
+		 * @return upper bound (ns) of the latency of the formatting, which the percentile of the logs is below
+		 */
+		public long getFormatLatency( double percentile ) {
+			return percentile( formatLatency, percentile );
+		}
+
+		/**
+		 * @param percentile between 0 and 100
+		 * @return upper bound (ns) of the latency of the writing, which the percentile of the logs is below
+		 */
+		public long getWriteLatency( double percentile ) {
+			return percentile( writeLatency, percentile );
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder( "LoggerMetrics[" );
+			for( Logger.LogType logType : Logger.LogType.values() )
+				builder.append( logType ).append( '=' ).append( getEvents( logType ) ).append( ", " );
+			for( Sink sink : Sink.values() )
+				builder.append( sink ).append( '=' ).append( getBytesWritten( sink ) ).append( "B, " );
+			return builder.append( "fileOpens=" ).append( fileOpens )
+					.append( ", fileFlushes=" ).append( fileFlushes )
+					.append( ", rolls=" ).append( rolls )
+					.append( ", rollTime=" ).append( rollNanos ).append( "ns" )
+					.append( ", dropped=" ).append( droppedEvents ).append( ']' ).toString();
+		}
+
+		private static long percentile( long[] counts, double percentile ) {
+			long total = 0;
+			for( long count : counts )
+				total += count;
+			long rank = (long) Math.ceil( total * percentile / 100 );
+			long seen = 0;
+			for( int i = 0; i < counts.length; i++ ) {
+				seen += counts[ i ];
+				if( seen >= rank && seen > 0 )
+					return 1L << i;
+			}
+			return 0;
+		}
+	}
+
+	private LoggerMetrics() {
+	}
+
+	/**
+	 * @return current values of all counters
+	 */
+	public static Snapshot snapshot() {
+		return new Snapshot();
+	}
+
+	/**
+	 * Registers the MBean at the platform MBeanServer (see OBJECT_NAME)
+	 */
+	static void register() {
+		try {
+			ObjectName name = new ObjectName( OBJECT_NAME );
+			if( !ManagementFactory.getPlatformMBeanServer().isRegistered( name ) )
+				ManagementFactory.getPlatformMBeanServer().registerMBean( instance, name );
+		} catch( JMException e ) {
+			e.printStackTrace();
+		}
+	}
+
+	static void event( Logger.LogType logType ) {
+		events[ logType.ordinal() ].increment();
+	}
+
+	/**
+	 * @param logType Log-Type of the logs
+	 * @param count   count of written logs (see LogBatch)
+	 */
+	static void events( Logger.LogType logType, int count ) {
+		events[ logType.ordinal() ].add( count );
+	}
+
+	static void bytesWritten( Sink sink, long count ) {
+		bytes[ sink.ordinal() ].add( count );
+	}
+
+	static void fileOpened() {
+		fileOpens.increment();
+	}
+
+	static void fileFlushed() {
+		fileFlushes.increment();
+	}
+
+	/**
+	 * @param nanos time of the roll
+	 */
+	static void rolled( long nanos ) {
+		rolls.increment();
+		rollNanos.add( nanos );
+	}
+
+	/**
+	 * @return start of a latency measurement, 0 if the latencies are not measured
+	 */
+	static long start() {
+		return latency ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * @param start of the formatting (see start)
+	 */
+	static void formatted( long start ) {
+		if( start != 0 )
+			formatLatency.add( System.nanoTime() - start );
+	}
+
+	/**
+	 * @param start of the writing (see start)
+	 */
+	static void written( long start ) {
+		if( start != 0 )
+			writeLatency.add( System.nanoTime() - start );
+	}
+
+	@Override
+	public Map<String, Long> getEvents() {
+		return byLogType( events );
+	}
+
+	@Override
+	public Map<String, Long> getBytesWritten() {
+		Map<String, Long> map = new LinkedHashMap<>();
+		for( Sink sink : Sink.values() )
+			map.put( sink.name(), bytes[ sink.ordinal() ].sum() );
+		return map;
+	}
+
+	@Override
+	public long getFileOpens() {
+		return fileOpens.sum();
+	}
+
+	@Override
+	public long getFileFlushes() {
+		return fileFlushes.sum();
+	}
+
+	@Override
+	public long getRolls() {
+		return rolls.sum();
+	}
+
+	@Override
+	public long getRollTimeNanos() {
+		return rollNanos.sum();
+	}
+
+	@Override
+	public long getDroppedEvents() {
+		return AsyncLogger.getDroppedEvents();
+	}
+
+	@Override
+	public Map<Long, Long> getFormatLatency() {
+		return buckets( formatLatency );
+	}
+
+	@Override
+	public Map<Long, Long> getWriteLatency() {
+		return buckets( writeLatency );
+	}
+
+	@Override
+	public void reset() {
+		for( LongAdder[] adders : new LongAdder[][]{ events, bytes } )
+			for( LongAdder adder : adders )
+				adder.reset();
+		fileOpens.reset();
+		fileFlushes.reset();
+		rolls.reset();
+		rollNanos.reset();
+		formatLatency.reset();
+		writeLatency.reset();
+	}
+
+	private static Map<String, Long> byLogType( LongAdder[] adders ) {
+		Map<String, Long> map = new LinkedHashMap<>();
+		for( Logger.LogType logType : Logger.LogType.values() )
+			map.put( logType.name(), adders[ logType.ordinal() ].sum() );
+		return map;
+	}
+
+	/**
+	 * @return count per upper bound (ns), only buckets with logs
+	 */
+	private static Map<Long, Long> buckets( Histogram histogram ) {
+		Map<Long, Long> map = new LinkedHashMap<>();
+		long[] counts = histogram.counts();
+		for( int i = 0; i < counts.length; i++ )
+			if( counts[ i ] > 0 )
+				map.put( 1L << i, counts[ i ] );
+		return map;
+	}
+
+	private static LongAdder[] adders( int count ) {
+		LongAdder[] adders = new LongAdder[ count ];
+		for( int i = 0; i < count; i++ )
+			adders[ i ] = new LongAdder();
+		return adders;
+	}
+
+	private static long[] sums( LongAdder[] adders ) {
+		long[] sums = new long[ adders.length ];
+		for( int i = 0; i < adders.length; i++ )
+			sums[ i ] = adders[ i ].sum();
+		return sums;
+	}
+}
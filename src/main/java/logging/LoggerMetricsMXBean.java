@@ -0,0 +1,62 @@
+package logging;
+
+import java.util.Map;
+
+/**
+ * Management interface of the LoggerMetrics, registered as logging:type=LoggerMetrics
+ * Every getter reads the current counters
+ *
+ * @author cstockhoff
+ */
+public interface LoggerMetricsMXBean {
+
+	/**
+	 * @return written logs per Log-Type
+	 */
+	Map<String, Long> getEvents();
+
+	/**
+	 * @return written bytes per sink (see LoggerMetrics.Sink)
+	 */
+	Map<String, Long> getBytesWritten();
+
+	/**
+	 * @return count of opened Log-Files
+	 */
+	long getFileOpens();
+
+	/**
+	 * @return count of writes of the buffered logs to a Log-File
+	 */
+	long getFileFlushes();
+
+	/**
+	 * @return count of rolls of the Log-File
+	 */
+	long getRolls();
+
+	/**
+	 * @return total time (ns) of all rolls of the Log-File
+	 */
+	long getRollTimeNanos();
+
+	/**
+	 * @return count of discarded events of the asynchronous Log-Mode
+	 */
+	long getDroppedEvents();
+
+	/**
+	 * @return count of formatted logs per upper bound (ns) of the latency (see LOG_LATENCY_METRICS)
+	 */
+	Map<Long, Long> getFormatLatency();
+
+	/**
+	 * @return count of written logs per upper bound (ns) of the latency (see LOG_LATENCY_METRICS)
+	 */
+	Map<Long, Long> getWriteLatency();
+
+	/**
+	 * Resets all counters
+	 */
+	void reset();
+}
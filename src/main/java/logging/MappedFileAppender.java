@@ -0,0 +1,306 @@
+package logging;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Appender, which writes into memory-mapped regions of a Log-File
+ * <p>
+ * The file is pre-extended region by region, every thread claims the space of its log by an
+ * atomic offset and copies the bytes into the mapped region, so writers make no syscalls
+ * (only the mapping of the next region does). The OS writes the pages, so the logs are
+ * on disk even if the JVM crashes
+ * <p>
+ * The file is truncated to its real length on close and before it is rolled,
+ * until then it contains zeros behind the last log
+ *
+ * @author cstockhoff
+ */
+public class MappedFileAppender implements Appender {
+
+	/**
+	 * Mapped part of the file
+	 */
+	private static final class Region {
+		private final long start;
+		private final MappedByteBuffer buffer;
+
+		private Region( long start, MappedByteBuffer buffer ) {
+			this.start = start;
+			this.buffer = buffer;
+		}
+
+		private boolean contains( long position ) {
+			return position >= start && position < start + buffer.capacity();
+		}
+	}
+
+	private final String path;
+	private final int regionSize;
+	private final long maxFileSize;
+	private final FileAppender.RollInterval rollInterval;
+	private final int countBackups;
+	private final boolean compressBackups;
+
+	/**
+	 * Writers hold the read lock, rolling and closing hold the write lock
+	 */
+	private final StampedLock lock = new StampedLock();
+
+	/**
+	 * Offset of the next log in the file
+	 */
+	private final AtomicLong position = new AtomicLong();
+
+	/**
+	 * Guards the mapping of the next region (see FileAppender.lock)
+	 */
+	private final ReentrantLock mapLock = new ReentrantLock();
+
+	private FileChannel channel;
+	private volatile Region region;
+	private volatile long nextRoll;
+	private volatile boolean closed;
+
+	/**
+	 * Opens the file given by its path for appending (will be created if it does not exist)
+	 * The file is rolled, if it exceeds maxFileSize or at the boundary of the rollInterval
+	 *
+	 * @param path            of the file
+	 * @param regionSize      size of a mapped region (bytes), the file is extended by this size
+	 * @param maxFileSize     max. size (bytes) of the file (0: no size-based rolling)
+	 * @param rollInterval    time boundary, at which the file is rolled
+	 * @param countBackups    count of backups kept by rolling
+	 * @param compressBackups true, if the backups are compressed on a background thread
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	public MappedFileAppender( String path, int regionSize, long maxFileSize, FileAppender.RollInterval rollInterval,
+							   int countBackups, boolean compressBackups ) throws IOException {
+		this.path = path;
+		this.regionSize = Math.max( 4096, regionSize );
+		this.maxFileSize = maxFileSize;
+		this.rollInterval = rollInterval;
+		this.countBackups = countBackups;
+		this.compressBackups = compressBackups;
+		open();
+	}
+
+	/**
+	 * Append the encoded log to the file
+	 * If the appender is already closed, the line is appended by FileBundle.appendFile
+	 *
+	 * @param line formatted and encoded log
+	 */
+	@Override
+	public void append( LogLine line ) {
+		if( !append( line.getBytes(), line.getLength() ) )
+			FileBundle.appendFile( path, line.getText().toString() );
+	}
+
+	/**
+	 * Append all encoded logs of the batch at once, they are copied into the mapped region in one piece
+	 * If the appender is already closed, the logs are appended by FileBundle.appendFile
+	 *
+	 * @param batch formatted and encoded logs
+	 */
+	@Override
+	public void append( LogBatch batch ) {
+		if( !append( batch.getBytes(), batch.getLength() ) )
+			FileBundle.appendFile( path, batch.getLines() );
+	}
+
+	/**
+	 * Copies the bytes to the next position of the file
+	 *
+	 * @param bytes  encoded logs
+	 * @param length count of bytes to be copied
+	 * @return false, if the appender is already closed
+	 */
+	private boolean append( byte[] bytes, int length ) {
+		if( System.currentTimeMillis() >= nextRoll )
+			roll( false, true );
+
+		boolean rollBySize = false;
+
+		long stamp = lock.readLock();
+		try {
+			if( closed )
+				return false;
+			long offset = position.getAndAdd( length );
+			write( offset, bytes, length );
+			LoggerMetrics.bytesWritten( LoggerMetrics.Sink.FILE, length );
+			rollBySize = maxFileSize > 0 && offset < maxFileSize && offset + length >= maxFileSize;
+		} catch( IOException e ) {
+			e.printStackTrace();
+		} finally {
+			lock.unlockRead( stamp );
+		}
+
+		if( rollBySize )
+			roll( true, false );
+		return true;
+	}
+
+	/**
+	 * The logs are in the page cache as soon as they are appended, so there is nothing to flush
+	 */
+	@Override
+	public void flush() {
+	}
+
+	/**
+	 * Truncates the file to its real length and closes it
+	 */
+	@Override
+	public void close() {
+		long stamp = lock.writeLock();
+		try {
+			if( closed )
+				return;
+			closed = true;
+			truncateAndClose();
+		} catch( IOException e ) {
+			e.printStackTrace();
+		} finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	/**
+	 * @return path of the file
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Rolls the file: It is truncated to its real length, renamed to the first backup
+	 * (see FileBundle.roll) and a new file is opened
+	 */
+	public void roll() {
+		roll( false, false );
+	}
+
+	/**
+	 * @param bySize true, if the roll was triggered by the size of the file
+	 * @param byTime true, if the roll was triggered by the time boundary
+	 */
+	private void roll( boolean bySize, boolean byTime ) {
+		long stamp = lock.writeLock();
+		try {
+			// another thread has rolled already
+			if( closed || bySize && position.get() < maxFileSize || byTime && System.currentTimeMillis() < nextRoll )
+				return;
+
+			long start = System.nanoTime();
+			truncateAndClose();
+			try {
+				FileBundle.roll( path, countBackups, compressBackups );
+			} finally {
+				open();
+			}
+			LoggerMetrics.rolled( System.nanoTime() - start );
+		} catch( IOException e ) {
+			e.printStackTrace();
+		} finally {
+			lock.unlockWrite( stamp );
+		}
+	}
+
+	/**
+	 * Opens the file, maps the region behind the last log and calculates the next time boundary
+	 *
+	 * @throws IOException if the file cannot be opened or mapped
+	 */
+	private void open() throws IOException {
+		channel = FileChannel.open( Paths.get( path ), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE );
+		long length = realLength();
+		position.set( length );
+		LoggerMetrics.fileOpened();
+		region = map( length - length % regionSize );
+
+		if( rollInterval == FileAppender.RollInterval.NONE ) {
+			nextRoll = Long.MAX_VALUE;
+		} else {
+			nextRoll = Instant.now().atZone( ZoneId.systemDefault() )
+					.truncatedTo( rollInterval.unit() )
+					.plus( 1, rollInterval.unit() )
+					.toInstant().toEpochMilli();
+		}
+	}
+
+	private void truncateAndClose() throws IOException {
+		channel.truncate( position.get() );
+		channel.close();
+		region = null;
+	}
+
+	/**
+	 * Length of the file without the zeros behind the last log (e.g. after a crash of the JVM)
+	 *
+	 * @return offset behind the last log
+	 * @throws IOException forwarded exception of the FileChannel
+	 */
+	private long realLength() throws IOException {
+		long end = channel.size();
+		while( end > 0 ) {
+			long start = Math.max( 0, end - regionSize );
+			MappedByteBuffer buffer = channel.map( FileChannel.MapMode.READ_ONLY, start, end - start );
+			for( int i = (int) ( end - start ) - 1; i >= 0; i-- )
+				if( buffer.get( i ) != 0 )
+					return start + i + 1;
+			end = start;
+		}
+		return 0;
+	}
+
+	/**
+	 * Copies the bytes into the mapped regions starting at the offset
+	 */
+	private void write( long offset, byte[] bytes, int length ) throws IOException {
+		int written = 0;
+		while( written < length ) {
+			Region target = region( offset + written );
+			int index = (int) ( offset + written - target.start );
+			int count = Math.min( length - written, target.buffer.capacity() - index );
+			target.buffer.put( index, bytes, written, count );
+			written += count;
+		}
+	}
+
+	/**
+	 * Returns the region, which contains the offset
+	 * The next region is mapped by the first thread, which needs it
+	 */
+	private Region region( long offset ) throws IOException {
+		Region current = region;
+		if( current.contains( offset ) )
+			return current;
+
+		mapLock.lock();
+		try {
+			current = region;
+			if( current.contains( offset ) )
+				return current;
+
+			Region mapped = map( offset - offset % regionSize );
+			if( mapped.start > current.start )
+				region = mapped;
+			return mapped;
+		} finally {
+			mapLock.unlock();
+		}
+	}
+
+	private Region map( long start ) throws IOException {
+		return new Region( start, channel.map( FileChannel.MapMode.READ_WRITE, start, regionSize ) );
+	}
+}
@@ -0,0 +1,49 @@
+package logging;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Appender, which keeps the last logs in memory
+ * The encoded logs are copied into a ring of byte-arrays, the oldest log is overwritten
+ *
+ * @author cstockhoff
+ */
+public class MemoryAppender implements Appender {
+
+	private final byte[][] ring;
+	private long count;
+
+	/**
+	 * @param capacity count of logs kept in memory
+	 */
+	public MemoryAppender( int capacity ) {
+		ring = new byte[ Math.max( 1, capacity ) ][];
+	}
+
+	@Override
+	public synchronized void append( LogLine line ) {
+		ring[ (int) ( count++ % ring.length ) ] = Arrays.copyOf( line.getBytes(), line.getLength() );
+	}
+
+	/**
+	 * @return kept logs from the oldest to the newest (without line separator)
+	 */
+	public synchronized ArrayList<String> getLines() {
+		ArrayList<String> list = new ArrayList<>();
+		for( long i = Math.max( 0, count - ring.length ); i < count; i++ ) {
+			String line = new String( ring[ (int) ( i % ring.length ) ], Charset.defaultCharset() );
+			list.add( line.endsWith( "\n" ) ? line.substring( 0, line.length() - 1 ) : line );
+		}
+		return list;
+	}
+
+	/**
+	 * Removes all kept logs
+	 */
+	public synchronized void clear() {
+		Arrays.fill( ring, null );
+		count = 0;
+	}
+}
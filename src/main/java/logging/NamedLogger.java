@@ -0,0 +1,773 @@
+package logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Logger of one class (see Logger.get)
+ * <p>
+ * The logger knows its class, so the Log-Types of the class (see Logger.levelRules) are checked
+ * without analyzing the stack. The class name of the location is always the name of this class,
+ * also if the caller is another class (e.g. an inner class). The location is prebuilt for the Location-Levels
+ * CLASSNAME and NONE, only Location-Levels with method name or line number still analyze the stack (see CallSite)
+ * <p>
+ * All other attributes (Log-Types, PrintStreams, Log-File, ...) are the same as of the static Logger
+ *
+ * @author cstockhoff
+ */
+@LoggingAnnotation.SkipLogging
+public final class NamedLogger {
+
+	private final Class<?> clazz;
+	private final String name;
+	private final String simpleName;
+
+	/**
+	 * Location of the Location-Level CLASSNAME
+	 */
+	private final String prefix;
+
+	NamedLogger( Class<?> clazz ) {
+		this.clazz = clazz;
+		this.name = clazz.getName();
+		this.simpleName = name.substring( name.lastIndexOf( '.' ) + 1 );
+		this.prefix = "[ " + simpleName + " ] ";
+	}
+
+	/**
+	 * @return full qualified name of the class
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return name of the class without package
+	 */
+	public String getSimpleName() {
+		return simpleName;
+	}
+
+	/**
+	 * @param logType to be checked
+	 * @return true, if the LogType is enabled for the class
+	 */
+	public boolean isEnabled( Logger.LogType logType ) {
+		return Logger.isEnabled( 1 << logType.ordinal(), clazz );
+	}
+
+	/**
+	 * @return true, if INFO-Logs are enabled for the class
+	 */
+	public boolean isInfoEnabled() {
+		return Logger.isEnabled( Logger.INFO_BIT, clazz );
+	}
+
+	/**
+	 * Log a text on the INFO-Level
+	 *
+	 * @param info Individual text/string
+	 */
+	public void info( Object info ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, info.toString() );
+	}
+
+	/**
+	 * Log a text on the INFO-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param info Individual text
+	 */
+	public void info( CharSequence info ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, info );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void info( String pattern, long arg ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void info( String pattern, double arg ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void info( String pattern, float arg ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void info( String pattern, char arg ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if INFO-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void info( String pattern, Object arg ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if INFO-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public void info( String pattern, Object arg0, Object arg1 ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if INFO-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public void info( String pattern, Object... args ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the INFO-Level
+	 * The supplier is only called, if INFO-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public void info( Supplier<?> supplier ) {
+		if( Logger.accept( Logger.INFO_BIT, clazz ) )
+			log( Logger.LogType.INFO, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * @return true, if MESSAGE-Logs are enabled for the class
+	 */
+	public boolean isMessageEnabled() {
+		return Logger.isEnabled( Logger.MESSAGE_BIT, clazz );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level
+	 *
+	 * @param message Individual text/string
+	 */
+	public void message( Object message ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, message.toString() );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param message Individual text
+	 */
+	public void message( CharSequence message ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, message );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void message( String pattern, long arg ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void message( String pattern, double arg ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void message( String pattern, float arg ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void message( String pattern, char arg ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if MESSAGE-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void message( String pattern, Object arg ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if MESSAGE-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public void message( String pattern, Object arg0, Object arg1 ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if MESSAGE-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public void message( String pattern, Object... args ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the MESSAGE-Level
+	 * The supplier is only called, if MESSAGE-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public void message( Supplier<?> supplier ) {
+		if( Logger.accept( Logger.MESSAGE_BIT, clazz ) )
+			log( Logger.LogType.MESSAGE, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * @return true, if DEBUG-Logs are enabled for the class
+	 */
+	public boolean isDebugEnabled() {
+		return Logger.isEnabled( Logger.DEBUG_BIT, clazz );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level
+	 *
+	 * @param debug Individual text/string
+	 */
+	public void debug( Object debug ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, debug.toString() );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param debug Individual text
+	 */
+	public void debug( CharSequence debug ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, debug );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void debug( String pattern, long arg ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void debug( String pattern, double arg ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void debug( String pattern, float arg ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void debug( String pattern, char arg ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if DEBUG-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void debug( String pattern, Object arg ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if DEBUG-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public void debug( String pattern, Object arg0, Object arg1 ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if DEBUG-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public void debug( String pattern, Object... args ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the DEBUG-Level
+	 * The supplier is only called, if DEBUG-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public void debug( Supplier<?> supplier ) {
+		if( Logger.accept( Logger.DEBUG_BIT, clazz ) )
+			log( Logger.LogType.DEBUG, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * @return true, if PRINT-Logs are enabled for the class
+	 */
+	public boolean isPrintEnabled() {
+		return Logger.isEnabled( Logger.PRINT_BIT, clazz );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level
+	 *
+	 * @param print Individual text/string
+	 */
+	public void print( Object print ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, print.toString() );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param print Individual text
+	 */
+	public void print( CharSequence print ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, print );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void print( String pattern, long arg ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void print( String pattern, double arg ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void print( String pattern, float arg ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void print( String pattern, char arg ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if PRINT-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void print( String pattern, Object arg ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if PRINT-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public void print( String pattern, Object arg0, Object arg1 ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if PRINT-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public void print( String pattern, Object... args ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the PRINT-Level
+	 * The supplier is only called, if PRINT-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public void print( Supplier<?> supplier ) {
+		if( Logger.accept( Logger.PRINT_BIT, clazz ) )
+			log( Logger.LogType.PRINT, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * @return true, if SYSTEM-Logs are enabled for the class
+	 */
+	public boolean isSystemEnabled() {
+		return Logger.isEnabled( Logger.SYSTEM_BIT, clazz );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level
+	 *
+	 * @param system Individual text/string
+	 */
+	public void system( Object system ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, system.toString() );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level without converting it to a String
+	 * The CharSequence (e.g. a StringBuilder) can be reused, as soon as the method returns
+	 *
+	 * @param system Individual text
+	 */
+	public void system( CharSequence system ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, system );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void system( String pattern, long arg ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, pattern, arg, 0, LogFormatter.LONG );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void system( String pattern, double arg ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, pattern, 0, arg, LogFormatter.DOUBLE );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void system( String pattern, float arg ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, pattern, 0, arg, LogFormatter.FLOAT );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The argument is neither boxed nor converted to a String
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void system( String pattern, char arg ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, pattern, arg, 0, LogFormatter.CHAR );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} of the pattern is replaced by arg
+	 * The text is only formatted, if SYSTEM-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholder {0}
+	 * @param arg     Replacement of {0}
+	 */
+	public void system( String pattern, Object arg ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, LogFormatter.substitute( pattern, arg, null, 1 ) );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} and {1} of the pattern are replaced by arg0 and arg1
+	 * The text is only formatted, if SYSTEM-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} and {1}
+	 * @param arg0    Replacement of {0}
+	 * @param arg1    Replacement of {1}
+	 */
+	public void system( String pattern, Object arg0, Object arg1 ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, LogFormatter.substitute( pattern, arg0, arg1, 2 ) );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level, {0} - {args.length - 1} of the pattern are replaced by args
+	 * The text is only formatted, if SYSTEM-Logs are enabled
+	 *
+	 * @param pattern Individual text/string with the placeholders {0} - {args.length - 1}
+	 * @param args    Replacements of the placeholders
+	 */
+	public void system( String pattern, Object... args ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Log a text on the SYSTEM-Level
+	 * The supplier is only called, if SYSTEM-Logs are enabled
+	 *
+	 * @param supplier of the individual text/string
+	 */
+	public void system( Supplier<?> supplier ) {
+		if( Logger.accept( Logger.SYSTEM_BIT, clazz ) )
+			log( Logger.LogType.SYSTEM, String.valueOf( supplier.get() ) );
+	}
+
+	/**
+	 * @return true, if ERROR-Logs are enabled for the class
+	 */
+	public boolean isErrorEnabled() {
+		return Logger.isEnabled( Logger.ERROR_BIT, clazz );
+	}
+
+	/**
+	 * Log a Throwable (e.g. Exception, Error) with its message (see Throwable.toString)
+	 *
+	 * @param throwable Throwable to be logged/analyzed
+	 */
+	public void error( Throwable throwable ) {
+		if( Logger.accept( Logger.ERROR_BIT, clazz ) )
+			Logger.logError( throwable, throwable::toString );
+	}
+
+	/**
+	 * Log a Throwable (e.g. Exception, Error) with a specific message
+	 *
+	 * @param throwable Throwable to be logged/analyzed
+	 * @param error     Individual message to be logged
+	 */
+	public void error( Throwable throwable, Object error ) {
+		if( Logger.accept( Logger.ERROR_BIT, clazz ) )
+			Logger.logError( throwable, error::toString );
+	}
+
+	/**
+	 * Log a Throwable (e.g. Exception, Error) with a specific message
+	 *
+	 * @param throwable Throwable to be logged/analyzed
+	 * @param pattern   message with placeholders {0}, {1}, ...
+	 * @param args      replacements of the placeholders
+	 */
+	public void error( Throwable throwable, String pattern, Object... args ) {
+		if( Logger.accept( Logger.ERROR_BIT, clazz ) )
+			Logger.logError( throwable, () -> LogFormatter.substitute( pattern, args ) );
+	}
+
+	/**
+	 * Returns a batch, which collects logs of the Log-Type and writes them at once (see Logger.batch)
+	 *
+	 * @param logType Log-Type of all logs of the batch
+	 * @return batch, which has to be closed (e.g. by try-with-resources)
+	 */
+	public LogBatch batch( Logger.LogType logType ) {
+		return new LogBatch( logType, isEnabled( logType ) ? location() : null );
+	}
+
+	/**
+	 * Log the text at the location of the caller
+	 * The stack is only analyzed, if the Location-Level needs the method name or the line number
+	 *
+	 * @param logType Log-Level, to which the text/string is logged
+	 * @param content individual content
+	 */
+	private void log( Logger.LogType logType, CharSequence content ) {
+		Logger.log( logType, location(), content );
+	}
+
+	/**
+	 * @return location of the caller with the name of this class, prebuilt for the Location-Levels CLASSNAME and NONE
+	 */
+	private String location() {
+		Logger.LocationLevel level = Logger.locationLevel;
+		if( level == Logger.LocationLevel.NONE )
+			return "";
+		if( level == Logger.LocationLevel.CLASSNAME )
+			return prefix;
+		return CallSite.location( level, clazz );
+	}
+
+	/**
+	 * Log the pattern with its primitive argument rendered into the reusable content of the calling thread
+	 *
+	 * @param logType  Log-Level, to which the text/string is logged
+	 * @param pattern  text with the placeholder {0}
+	 * @param integral replacement of {0} for the kinds LONG and CHAR
+	 * @param floating replacement of {0} for the kinds DOUBLE and FLOAT
+	 * @param kind     kind of the argument (see LogFormatter.substitute)
+	 */
+	private void log( Logger.LogType logType, String pattern, long integral, double floating, int kind ) {
+		StringBuilder content = LogFormatter.borrow();
+		try {
+			log( logType, LogFormatter.substitute( content, pattern, integral, floating, kind ) );
+		} finally {
+			LogFormatter.giveBack( content );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "NamedLogger[" + name + "]";
+	}
+}
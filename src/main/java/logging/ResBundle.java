@@ -1,8 +1,10 @@
 package logging;
 
+import java.util.Collections;
 import java.util.Locale;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.Set;
 
 /**
  * @author cstockhoff
@@ -40,59 +42,70 @@ public class ResBundle {
 		}
 	}
 
+	/**
+	 * Clears the cache of the loaded ResourceBundles,
+	 * so the next ResBundle reads its file again (e.g. to reload Logger.properties)
+	 */
+	public static void clearCache() {
+		ResourceBundle.clearCache();
+	}
+
+	/**
+	 * Returns all keys of the ResourceBundle (empty, if the ResourceBundle is missing)
+	 */
+	public Set<String> getKeys() {
+		if( res == null )
+			return Collections.emptySet();
+		return res.keySet();
+	}
+
 	/**
 	 * Returns a String given by a key
+	 * A missing key is not reported, the caller keeps its default (null is returned)
 	 * Format: Key=Value
 	 */
 	public String getString( String key ) {
-		if( res != null ) {
-			if( key != null )
-				return res.getString( key );
-		} else
-			Logger.info( "Properties missing" );
-		return null;
+		if( !contains( key ) )
+			return null;
+		return res.getString( key );
 	}
 
 	/**
 	 * Returns a Boolean given by a key
+	 * A missing key is not reported, the caller keeps its default (null is returned)
 	 * Format: Key=Value
 	 */
 	public Boolean getBoolean( String key ) {
-		Boolean retVal = null;
-		if( res != null ) {
-			if( key != null ) {
-				try {
-					retVal = Boolean.parseBoolean( res.getString( key ) );
-				} catch( MissingResourceException e ) {
-					Logger.info( e.getMessage() );
-				}
-			}
-		} else
-			Logger.info( "Properties missing" );
-		return retVal;
+		if( !contains( key ) )
+			return null;
+		return Boolean.parseBoolean( res.getString( key ) );
 	}
 
 	/**
 	 * Returns a Integer given by a key
+	 * A missing key is not reported, a malformed value is logged (null is returned in both cases)
 	 * Format: Key=Value
 	 */
 	public Integer getInteger( String key ) {
 		Integer retVal = null;
-		if( res != null ) {
-			if( key != null ) {
-				try {
-					retVal = Integer.parseInt( res.getString( key ) );
-				} catch( NumberFormatException e ) {
-					Logger.error( e );
-				} catch( MissingResourceException e ) {
-					Logger.info( e.getMessage() );
-				}
+		if( contains( key ) ) {
+			try {
+				retVal = Integer.parseInt( res.getString( key ) );
+			} catch( NumberFormatException e ) {
+				Logger.error( e );
 			}
-		} else
-			Logger.info( "Properties missing" );
+		}
 		return retVal;
 	}
 
+	/**
+	 * Checks, if the ResourceBundle contains the key
+	 * A missing ResourceBundle is reported once, when it is loaded
+	 */
+	private boolean contains( String key ) {
+		return res != null && key != null && res.containsKey( key );
+	}
+
 	/**
 	 * Returns a Message given by a key (this method is handled like getString)
 	 * Format: Key=Value
@@ -0,0 +1,142 @@
+package logging;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Formatter of the Date of a log (see Logger.LOG_DATE)
+ * <p>
+ * The formatted Date is cached per second, if the pattern contains three millisecond digits (SSS),
+ * only these digits are patched in. Patterns with other fractions are cached per millisecond
+ * So a Date costs a volatile load and a compare, as long as the second does not change
+ * <p>
+ * Supported patterns:
+ * DEFAULT: Layout of java.util.Date.toString (e.g. Sun Oct 18 17:16:20 UTC 2026)
+ * ISO: ISO-8601 with milliseconds and offset (e.g. 2026-10-18T17:16:20.123Z)
+ * EPOCH: Milliseconds since the epoch
+ * Every other value is used as pattern of a java.time.format.DateTimeFormatter
+ *
+ * @author cstockhoff
+ */
+final class TimestampFormatter {
+
+	static final String DEFAULT = "DEFAULT";
+	static final String ISO = "ISO";
+	static final String EPOCH = "EPOCH";
+
+	private static final String DEFAULT_PATTERN = "EEE MMM dd HH:mm:ss zzz yyyy";
+	private static final String ISO_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+
+	/**
+	 * Formatted Date of one second (or millisecond)
+	 */
+	private static final class Cache {
+		private final long key;
+		private final String text;
+
+		private Cache( long key, String text ) {
+			this.key = key;
+			this.text = text;
+		}
+	}
+
+	/**
+	 * Pattern, the formatter was created with
+	 */
+	private final String pattern;
+
+	/**
+	 * null, if the Date is logged as milliseconds since the epoch
+	 */
+	private final DateTimeFormatter formatter;
+
+	/**
+	 * true, if the cache holds one second, false if it holds one millisecond
+	 */
+	private final boolean perSecond;
+
+	/**
+	 * Position of the three millisecond digits in the cached text (-1: no milliseconds)
+	 */
+	private final int millisOffset;
+
+	private volatile Cache cache;
+
+	/**
+	 * @param pattern DEFAULT, ISO, EPOCH or pattern of a DateTimeFormatter
+	 * @throws IllegalArgumentException if the pattern is invalid
+	 */
+	TimestampFormatter( String pattern ) {
+		this.pattern = pattern;
+		if( pattern == null || pattern.isBlank() || pattern.equalsIgnoreCase( DEFAULT ) )
+			pattern = DEFAULT_PATTERN;
+		else if( pattern.equalsIgnoreCase( ISO ) )
+			pattern = ISO_PATTERN;
+
+		if( pattern.equalsIgnoreCase( EPOCH ) ) {
+			formatter = null;
+			perSecond = false;
+			millisOffset = -1;
+			return;
+		}
+		formatter = DateTimeFormatter.ofPattern( pattern, Locale.US ).withZone( ZoneId.systemDefault() );
+
+		// analyze, which characters depend on the milliseconds
+		long second = System.currentTimeMillis() / 1000 * 1000;
+		String zero = formatter.format( Instant.ofEpochMilli( second ) );
+		String sample = formatter.format( Instant.ofEpochMilli( second + 123 ) );
+		if( zero.equals( sample ) ) {
+			perSecond = true;
+			millisOffset = -1;
+		} else {
+			int offset = 0;
+			while( offset < zero.length() && offset < sample.length() && zero.charAt( offset ) == sample.charAt( offset ) )
+				offset++;
+			perSecond = zero.length() == sample.length()
+					&& zero.startsWith( "000", offset )
+					&& sample.startsWith( "123", offset )
+					&& zero.regionMatches( offset + 3, sample, offset + 3, zero.length() - offset - 3 );
+			millisOffset = perSecond ? offset : -1;
+		}
+	}
+
+	/**
+	 * @return pattern, the formatter was created with
+	 */
+	String getPattern() {
+		return pattern;
+	}
+
+	/**
+	 * Appends the formatted Date to the builder
+	 *
+	 * @param time    Date (ms since the epoch)
+	 * @param builder to which the Date is appended
+	 */
+	void format( long time, StringBuilder builder ) {
+		if( formatter == null ) {
+			builder.append( time );
+			return;
+		}
+
+		long key = perSecond ? Math.floorDiv( time, 1000 ) : time;
+		Cache current = cache;
+		if( current == null || current.key != key ) {
+			current = new Cache( key, formatter.format( Instant.ofEpochMilli( perSecond ? key * 1000 : key ) ) );
+			cache = current;
+		}
+
+		if( millisOffset < 0 ) {
+			builder.append( current.text );
+		} else {
+			int millis = Math.floorMod( time, 1000 );
+			builder.append( current.text, 0, millisOffset )
+					.append( (char) ( '0' + millis / 100 ) )
+					.append( (char) ( '0' + millis / 10 % 10 ) )
+					.append( (char) ( '0' + millis % 10 ) )
+					.append( current.text, millisOffset + 3, current.text.length() );
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Counts the allocated bytes of the garbage-free log methods (see README, Garbage-free Logging)
+ * <p>
+ * Patterns with a double or float argument are not checked, StringBuilder.append allocates
+ * for them on some JDKs (e.g. JDK 21)
+ * <p>
+ * The static Logger is checked with the Location-Level NONE, the NamedLogger with CLASSNAME,
+ * each once to the PrintStream and once to a Log-File. A method fails, if it allocates
+ * at least one byte per log once warmed up
+ *
+ * @author cstockhoff
+ */
+class GarbageFreeTest {
+
+	/**
+	 * Logs per method before counting
+	 */
+	private static final int WARMUP_LOGS = 20_000;
+
+	/**
+	 * Counted logs per method
+	 */
+	private static final int CHECKED_LOGS = 100_000;
+
+	@TempDir
+	Path dir;
+
+	private final NamedLogger named = Logger.get( GarbageFreeTest.class );
+	private final StringBuilder text = new StringBuilder( 64 );
+	private long counter;
+
+	private com.sun.management.ThreadMXBean threads;
+	private PrintStream out;
+	private PrintStream err;
+	private boolean logToPrintStream;
+	private Logger.LocationLevel locationLevel;
+	private FileAppender file;
+
+	@BeforeEach
+	void setUp() {
+		threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assumeTrue( threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled() );
+
+		out = Logger.out;
+		err = Logger.err;
+		logToPrintStream = Logger.LOG_TO_PRINTSTREAM;
+		locationLevel = Logger.locationLevel;
+
+		PrintStream nullStream = new PrintStream( OutputStream.nullOutputStream() );
+		Logger.out = nullStream;
+		Logger.err = nullStream;
+		Logger.enable( Logger.LogType.INFO );
+		Logger.locationLevel = Logger.LocationLevel.NONE;
+	}
+
+	@AfterEach
+	void tearDown() {
+		if( file != null ) {
+			Logger.removeAppender( file );
+			file.close();
+		}
+		Logger.out = out;
+		Logger.err = err;
+		Logger.LOG_TO_PRINTSTREAM = logToPrintStream;
+		Logger.locationLevel = locationLevel;
+	}
+
+	@Test
+	void printStream() {
+		Logger.LOG_TO_PRINTSTREAM = true;
+		checkAll();
+	}
+
+	@Test
+	void logFile() throws Exception {
+		Logger.LOG_TO_PRINTSTREAM = false;
+		file = new FileAppender( dir.resolve( "log.txt" ).toString(), 8192, 0 );
+		Logger.addAppender( file );
+		checkAll();
+	}
+
+	private void checkAll() {
+		check( "info( CharSequence )", () -> {
+			text.setLength( 0 );
+			text.append( "garbage-free test " ).append( counter++ );
+			Logger.info( text );
+		} );
+		check( "info( String, long )", () -> Logger.info( "garbage-free test {0}", counter++ ) );
+		check( "info( String, char )", () -> Logger.info( "garbage-free test {0}", (char) ( 'a' + counter++ % 26 ) ) );
+		check( "NamedLogger.info( String, long ) with CLASSNAME", () -> {
+			Logger.locationLevel = Logger.LocationLevel.CLASSNAME;
+			named.info( "garbage-free test {0}", counter++ );
+			Logger.locationLevel = Logger.LocationLevel.NONE;
+		} );
+	}
+
+	/**
+	 * Counts the allocated bytes of the current thread while the log method is called CHECKED_LOGS times
+	 */
+	private void check( String method, Runnable log ) {
+		for( int i = 0; i < WARMUP_LOGS; i++ )
+			log.run();
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		for( int i = 0; i < CHECKED_LOGS; i++ )
+			log.run();
+		long bytes = threads.getCurrentThreadAllocatedBytes() - before;
+
+		assertTrue( bytes < CHECKED_LOGS, method + " allocates " + (double) bytes / CHECKED_LOGS + " B/op" );
+	}
+}
@@ -0,0 +1,99 @@
+package logging;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Logs from many virtual threads at once to the PrintStream and to a Log-File,
+ * every pinning of a virtual thread inside the Logger is recorded by JFR (jdk.VirtualThreadPinned)
+ *
+ * @author cstockhoff
+ */
+class VirtualThreadPinningTest {
+
+	private static final int TASKS = 1000;
+
+	@TempDir
+	Path dir;
+
+	private PrintStream out;
+	private PrintStream err;
+	private FileAppender file;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		out = Logger.out;
+		err = Logger.err;
+		PrintStream nullStream = new PrintStream( OutputStream.nullOutputStream() );
+		Logger.out = nullStream;
+		Logger.err = nullStream;
+		file = new FileAppender( dir.resolve( "log.txt" ).toString(), 8192, 0 );
+		Logger.addAppender( file );
+	}
+
+	@AfterEach
+	void tearDown() {
+		Logger.removeAppender( file );
+		file.close();
+		Logger.out = out;
+		Logger.err = err;
+	}
+
+	@Test
+	void loggingDoesNotPinVirtualThreads() throws Exception {
+		AtomicInteger pinned = new AtomicInteger();
+		try( RecordingStream recording = new RecordingStream() ) {
+			recording.enable( "jdk.VirtualThreadPinned" ).withThreshold( Duration.ZERO ).withStackTrace();
+			recording.onEvent( "jdk.VirtualThreadPinned", event -> {
+				if( inLogger( event ) )
+					pinned.incrementAndGet();
+			} );
+			recording.startAsync();
+
+			try( ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor() ) {
+				List<Future<?>> futures = new ArrayList<>( TASKS );
+				for( int i = 0; i < TASKS; i++ )
+					futures.add( executor.submit( () -> Logger.info( "virtual thread {0}", Thread.currentThread().threadId() ) ) );
+				for( Future<?> future : futures )
+					future.get();
+			}
+			Logger.flush();
+
+			// waits until all recorded events are consumed
+			recording.stop();
+		}
+		assertEquals( 0, pinned.get(), "virtual threads pinned by the Logger" );
+	}
+
+	/**
+	 * @return true, if the pinned virtual thread was logging
+	 */
+	private static boolean inLogger( RecordedEvent event ) {
+		if( event.getStackTrace() == null )
+			return false;
+		for( RecordedFrame frame : event.getStackTrace().getFrames() ) {
+			String type = frame.getMethod().getType().getName();
+			if( type.startsWith( "logging." ) && !type.startsWith( VirtualThreadPinningTest.class.getName() ) )
+				return true;
+		}
+		return false;
+	}
+}